@@ -0,0 +1,125 @@
+package com.example.backend.benchmark;
+
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.BackendApplication;
+import com.example.backend.social.feed.schedular.FeedScheduler;
+import com.example.backend.social.follow.implement.FollowGraphIndex;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/***
+ * BenchmarkContext
+ * 벤치마크 공용 상태 : 게시물 수(postCount) 별로 스프링 컨텍스트를 띄우고 데이터를 생성한다
+ * DB 는 메모리 H2 (MySQL 모드) 를 사용하며, Redis 는 로컬 서버의 별도 DB 인덱스(bench.redis.database, 기본 15)를
+ * 비운 뒤 사용한다. 그 외 설정(.env 의 JWT / OAuth 키 등)은 애플리케이션 실행과 동일하게 필요하다.
+ * 쿼리 수는 Hibernate Statistics 의 PreparedStatement 수로 측정한다.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkContext {
+
+	private static final int SAMPLE_SIZE = 1_024;
+
+	@Param({"10000", "100000", "1000000"})
+	public int postCount;
+
+	private ConfigurableApplicationContext context;
+	private TransactionTemplate readOnlyTransaction;
+	private Statistics statistics;
+	private BenchmarkDataSpec spec;
+
+	private long[] sampleMemberIds;
+	private long[] samplePostIds;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		String redisDatabase = System.getProperty("bench.redis.database", "15");
+		context = new SpringApplicationBuilder(BackendApplication.class)
+			.web(WebApplicationType.NONE)
+			.properties(Map.of(
+				"spring.datasource.url", "jdbc:h2:mem:bench" + postCount + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+				"spring.jpa.hibernate.ddl-auto", "create",
+				"spring.jpa.properties.hibernate.generate_statistics", "true",
+				"spring.jpa.properties.hibernate.format_sql", "false",
+				"spring.jpa.properties.hibernate.use_sql_comments", "false",
+				"spring.data.redis.database", redisDatabase,
+				"logging.level.root", "WARN",
+				"logging.level.com.example.backend.benchmark", "INFO"))
+			.run();
+
+		try (RedisConnection connection = context.getBean(RedisConnectionFactory.class).getConnection()) {
+			connection.serverCommands().flushDb();
+		}
+
+		spec = BenchmarkDataSpec.ofPosts(postCount);
+		new BenchmarkDataGenerator(context.getBean(JdbcTemplate.class), spec).generate();
+
+		// 스케줄러 / 인덱스 상태를 생성한 데이터 기준으로 맞춘다
+		FeedScheduler feedScheduler = context.getBean(FeedScheduler.class);
+		feedScheduler.updateCelebrityUsername();
+		feedScheduler.updatePopularHashtag();
+		feedScheduler.refreshRecommendCandidatePool();
+		context.getBean(FollowGraphIndex.class).rebuild();
+
+		readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+		readOnlyTransaction.setReadOnly(true);
+		statistics = context.getBean(EntityManagerFactory.class).unwrap(SessionFactory.class).getStatistics();
+
+		Random random = new Random(spec.seed());
+		sampleMemberIds = random.longs(SAMPLE_SIZE, 1, spec.memberCount() + 1L).toArray();
+		samplePostIds = random.longs(SAMPLE_SIZE, 1, spec.postCount() + 1L).toArray();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	public <T> T getBean(Class<T> type) {
+		return context.getBean(type);
+	}
+
+	public <T> T inReadOnlyTransaction(Function<TransactionStatus, T> action) {
+		return readOnlyTransaction.execute(action::apply);
+	}
+
+	public long statementCount() {
+		return statistics.getPrepareStatementCount();
+	}
+
+	public long memberId(int sequence) {
+		return sampleMemberIds[sequence & (SAMPLE_SIZE - 1)];
+	}
+
+	public long postId(int sequence) {
+		return samplePostIds[sequence & (SAMPLE_SIZE - 1)];
+	}
+
+	public String username(int sequence) {
+		return BenchmarkDataGenerator.username((int)memberId(sequence));
+	}
+
+	public String hashtag(int sequence) {
+		return "tag" + (sequence % spec.hashtagCount() + 1);
+	}
+}
@@ -0,0 +1,318 @@
+package com.example.backend.benchmark;
+
+import static com.example.backend.social.feed.constant.FeedConstants.*;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/***
+ * BenchmarkDataGenerator
+ * 벤치마크용 데이터를 JDBC 배치 INSERT 로 생성하는 클래스
+ * 같은 BenchmarkDataSpec 으로 실행하면 항상 같은 데이터가 만들어진다 (시드 고정).
+ * 팔로우 관계는 파레토 분포(팔로잉 수) + Zipf 분포(팔로우 대상)로 생성하여 소수의 멤버가 많은 팔로워를 가지도록 하고,
+ * 게시물 작성자 / 댓글 / 좋아요 / 해시태그도 Zipf 분포로 치우치게 생성한다.
+ * 엔티티의 카운트 컬럼(팔로워 / 팔로잉 / 좋아요 / 댓글 수, 인기 점수)은 생성한 데이터와 일치하도록 채운다.
+ */
+public class BenchmarkDataGenerator {
+
+	private static final Logger log = LoggerFactory.getLogger(BenchmarkDataGenerator.class);
+
+	private static final int BATCH_SIZE = 5_000;
+
+	private final JdbcTemplate jdbcTemplate;
+	private final BenchmarkDataSpec spec;
+	private final Random random;
+
+	private final int[] likeCounts;
+	private final int[] commentCounts;
+	private final long[] followerCounts;
+	private final int[] postAuthors;
+
+	public BenchmarkDataGenerator(JdbcTemplate jdbcTemplate, BenchmarkDataSpec spec) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.spec = spec;
+		this.random = new Random(spec.seed());
+		this.likeCounts = new int[spec.postCount() + 1];
+		this.commentCounts = new int[spec.postCount() + 1];
+		this.followerCounts = new long[spec.memberCount() + 1];
+		this.postAuthors = new int[spec.postCount() + 1];
+	}
+
+	/**
+	 * 전체 데이터를 생성한다 (멤버 / 팔로우 / 해시태그 / 게시물 / 이미지 / 댓글 / 좋아요 순)
+	 * ID 는 1 부터 순서대로 직접 지정하며, 생성 후 IDENTITY 시작값을 다음 값으로 맞춘다.
+	 */
+	public void generate() {
+		long start = System.currentTimeMillis();
+		LocalDateTime now = LocalDateTime.now();
+
+		int[][] followings = generateFollowings();
+		insertMembers(followings, now);
+		insertFollows(followings);
+		insertHashtags(now);
+		insertPosts(now);
+		insertImagesAndPostHashtags(now);
+		insertComments(now);
+		insertLikes(now);
+		updatePostCounts();
+
+		log.info("Benchmark data generated: {} posts, {} members in {} ms",
+			spec.postCount(), spec.memberCount(), System.currentTimeMillis() - start);
+	}
+
+	private int[][] generateFollowings() {
+		ZipfSampler targetSampler = new ZipfSampler(spec.memberCount(), 1.0, random);
+		int[][] followings = new int[spec.memberCount() + 1][];
+
+		for (int memberId = 1; memberId <= spec.memberCount(); memberId++) {
+			int degree = Math.min(paretoDegree(), Math.min(spec.maxFollowing(), spec.memberCount() - 1));
+			Set<Integer> targets = new HashSet<>();
+			for (int attempt = 0; targets.size() < degree && attempt < degree * 3; attempt++) {
+				int target = targetSampler.sample() + 1;
+				if (target != memberId) {
+					targets.add(target);
+				}
+			}
+
+			followings[memberId] = targets.stream().mapToInt(Integer::intValue).sorted().toArray();
+			for (int target : followings[memberId]) {
+				followerCounts[target]++;
+			}
+		}
+		return followings;
+	}
+
+	private void insertMembers(int[][] followings, LocalDateTime now) {
+		Timestamp createDate = Timestamp.valueOf(now.minusDays(spec.dayRange() + 1L));
+		List<Object[]> rows = new ArrayList<>();
+		for (int memberId = 1; memberId <= spec.memberCount(); memberId++) {
+			rows.add(new Object[] {
+				memberId, username(memberId), username(memberId) + "@bench.example", "{noop}password",
+				followerCounts[memberId], (long)followings[memberId].length, createDate, createDate});
+			flushIfFull("INSERT INTO member (id, username, email, password, follower_count, following_count, "
+				+ "create_date, modify_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+		}
+		flush("INSERT INTO member (id, username, email, password, follower_count, following_count, "
+			+ "create_date, modify_date) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+		restartIdentity("member", spec.memberCount());
+	}
+
+	private void insertFollows(int[][] followings) {
+		String followingSql = "INSERT INTO member_following_usernames (member_id, following_username) VALUES (?, ?)";
+		String followerSql = "INSERT INTO member_follower_usernames (member_id, follower_username) VALUES (?, ?)";
+
+		List<Object[]> followingRows = new ArrayList<>();
+		List<Object[]> followerRows = new ArrayList<>();
+		for (int memberId = 1; memberId <= spec.memberCount(); memberId++) {
+			for (int target : followings[memberId]) {
+				followingRows.add(new Object[] {memberId, username(target)});
+				followerRows.add(new Object[] {target, username(memberId)});
+				flushIfFull(followingSql, followingRows);
+				flushIfFull(followerSql, followerRows);
+			}
+		}
+		flush(followingSql, followingRows);
+		flush(followerSql, followerRows);
+	}
+
+	private void insertHashtags(LocalDateTime now) {
+		String sql = "INSERT INTO hashtag (id, content, last_used_at) VALUES (?, ?, ?)";
+		List<Object[]> rows = new ArrayList<>();
+		for (int hashtagId = 1; hashtagId <= spec.hashtagCount(); hashtagId++) {
+			rows.add(new Object[] {hashtagId, "tag" + hashtagId, Timestamp.valueOf(now)});
+			flushIfFull(sql, rows);
+		}
+		flush(sql, rows);
+		restartIdentity("hashtag", spec.hashtagCount());
+	}
+
+	private void insertPosts(LocalDateTime now) {
+		String sql = "INSERT INTO post (id, content, member_id, is_deleted, like_count, comment_count, "
+			+ "popularity_score, create_date, modify_date) VALUES (?, ?, ?, false, 0, 0, 0, ?, ?)";
+		ZipfSampler authorSampler = new ZipfSampler(spec.memberCount(), 0.8, random);
+
+		// 게시물 ID 가 클수록 최근에 작성된 게시물이 되도록 작성일을 균등하게 배치
+		LocalDateTime base = now.minusDays(spec.dayRange());
+		long stepMillis = Math.max(1, Duration.ofDays(spec.dayRange()).toMillis() / spec.postCount());
+
+		List<Object[]> rows = new ArrayList<>();
+		for (int postId = 1; postId <= spec.postCount(); postId++) {
+			int authorId = authorSampler.sample() + 1;
+			postAuthors[postId] = authorId;
+			Timestamp createDate = Timestamp.valueOf(base.plus(Duration.ofMillis(stepMillis * postId)));
+			rows.add(new Object[] {postId, "benchmark post " + postId + " by " + username(authorId), authorId,
+				createDate, createDate});
+			flushIfFull(sql, rows);
+		}
+		flush(sql, rows);
+		restartIdentity("post", spec.postCount());
+	}
+
+	private void insertImagesAndPostHashtags(LocalDateTime now) {
+		String imageSql = "INSERT INTO image (id, image_url, post_id, create_date, modify_date) VALUES (?, ?, ?, ?, ?)";
+		String postHashtagSql = "INSERT INTO post_hashtag (id, post_id, hashtag_id) VALUES (?, ?, ?)";
+		ZipfSampler hashtagSampler = new ZipfSampler(spec.hashtagCount(), 1.1, random);
+		Timestamp createDate = Timestamp.valueOf(now);
+
+		long imageId = 0;
+		long postHashtagId = 0;
+		List<Object[]> imageRows = new ArrayList<>();
+		List<Object[]> postHashtagRows = new ArrayList<>();
+		for (int postId = 1; postId <= spec.postCount(); postId++) {
+			int imageCount = random.nextInt(spec.maxImagesPerPost() + 1);
+			for (int i = 0; i < imageCount; i++) {
+				imageRows.add(new Object[] {++imageId, "https://bench.example/" + postId + "/" + i + ".jpg", postId,
+					createDate, createDate});
+				flushIfFull(imageSql, imageRows);
+			}
+
+			Set<Integer> hashtags = new HashSet<>();
+			int hashtagCount = random.nextInt(spec.maxHashtagsPerPost() + 1);
+			while (hashtags.size() < hashtagCount) {
+				hashtags.add(hashtagSampler.sample() + 1);
+			}
+			for (int hashtagId : hashtags) {
+				postHashtagRows.add(new Object[] {++postHashtagId, postId, hashtagId});
+				flushIfFull(postHashtagSql, postHashtagRows);
+			}
+		}
+		flush(imageSql, imageRows);
+		flush(postHashtagSql, postHashtagRows);
+		restartIdentity("image", imageId);
+		restartIdentity("post_hashtag", postHashtagId);
+	}
+
+	private void insertComments(LocalDateTime now) {
+		String sql = "INSERT INTO comment (id, content, post_id, member_id, ref, step, ref_order, answer_num, "
+			+ "parent_num, is_deleted, like_count, create_date, modify_date) "
+			+ "VALUES (?, ?, ?, ?, ?, 0, 0, 0, NULL, false, 0, ?, ?)";
+		ZipfSampler commenterSampler = new ZipfSampler(spec.memberCount(), 1.0, random);
+		Timestamp createDate = Timestamp.valueOf(now);
+
+		long commentId = 0;
+		List<Object[]> rows = new ArrayList<>();
+		for (int postId = 1; postId <= spec.postCount(); postId++) {
+			int count = geometric(spec.commentsPerPost());
+			commentCounts[postId] = count;
+			for (int ref = 1; ref <= count; ref++) {
+				int memberId = commenterSampler.sample() + 1;
+				rows.add(new Object[] {++commentId, "comment " + commentId, postId, memberId, ref,
+					createDate, createDate});
+				flushIfFull(sql, rows);
+			}
+		}
+		flush(sql, rows);
+		restartIdentity("comment", commentId);
+	}
+
+	private void insertLikes(LocalDateTime now) {
+		String sql = "INSERT INTO likes (id, create_date, is_liked, updated_date, resource_id, resource_type, member_id) "
+			+ "VALUES (?, ?, true, ?, ?, 'POST', ?)";
+		ZipfSampler likerSampler = new ZipfSampler(spec.memberCount(), 1.0, random);
+		Timestamp createDate = Timestamp.valueOf(now);
+
+		long likeId = 0;
+		List<Object[]> rows = new ArrayList<>();
+		for (int postId = 1; postId <= spec.postCount(); postId++) {
+			int count = Math.min(geometric(spec.likesPerPost()), spec.memberCount());
+			Set<Integer> likers = new HashSet<>();
+			for (int attempt = 0; likers.size() < count && attempt < count * 3; attempt++) {
+				likers.add(likerSampler.sample() + 1);
+			}
+			likeCounts[postId] = likers.size();
+			for (int memberId : likers) {
+				rows.add(new Object[] {++likeId, createDate, createDate, postId, memberId});
+				flushIfFull(sql, rows);
+			}
+		}
+		flush(sql, rows);
+		restartIdentity("likes", likeId);
+	}
+
+	// 좋아요 / 댓글 수와 인기 점수를 생성한 데이터 기준으로 채운다
+	private void updatePostCounts() {
+		String sql = "UPDATE post SET like_count = ?, comment_count = ?, popularity_score = ? WHERE id = ?";
+		List<Object[]> rows = new ArrayList<>();
+		for (int postId = 1; postId <= spec.postCount(); postId++) {
+			double score = followerCounts[postAuthors[postId]] * FOLLOWER_SCORE_WEIGHT
+				+ likeCounts[postId] * LIKE_SCORE_WEIGHT
+				+ commentCounts[postId] * COMMENT_SCORE_WEIGHT;
+			rows.add(new Object[] {likeCounts[postId], commentCounts[postId], score, postId});
+			flushIfFull(sql, rows);
+		}
+		flush(sql, rows);
+	}
+
+	// 최소값 minFollowing, 꼬리 지수 followingTailIndex 의 파레토 분포
+	private int paretoDegree() {
+		double uniform = 1.0 - random.nextDouble();
+		return (int)Math.floor(spec.minFollowing() / Math.pow(uniform, 1.0 / spec.followingTailIndex()));
+	}
+
+	// 평균이 mean 인 기하 분포
+	private int geometric(double mean) {
+		double p = 1.0 / (mean + 1.0);
+		return (int)Math.floor(Math.log(1.0 - random.nextDouble()) / Math.log(1.0 - p));
+	}
+
+	private void flushIfFull(String sql, List<Object[]> rows) {
+		if (rows.size() >= BATCH_SIZE) {
+			flush(sql, rows);
+		}
+	}
+
+	private void flush(String sql, List<Object[]> rows) {
+		if (!rows.isEmpty()) {
+			jdbcTemplate.batchUpdate(sql, rows);
+			rows.clear();
+		}
+	}
+
+	private void restartIdentity(String table, long lastId) {
+		jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (lastId + 1));
+	}
+
+	public static String username(int memberId) {
+		return "user" + memberId;
+	}
+
+	/**
+	 * 0 ~ n-1 범위에서 순위 k 가 1 / (k+1)^exponent 에 비례하는 확률로 뽑히는 Zipf 분포 샘플러
+	 */
+	static final class ZipfSampler {
+
+		private final double[] cumulative;
+		private final Random random;
+
+		ZipfSampler(int n, double exponent, Random random) {
+			this.cumulative = new double[n];
+			this.random = random;
+
+			double sum = 0;
+			for (int rank = 0; rank < n; rank++) {
+				sum += 1.0 / Math.pow(rank + 1, exponent);
+				cumulative[rank] = sum;
+			}
+			for (int rank = 0; rank < n; rank++) {
+				cumulative[rank] /= sum;
+			}
+		}
+
+		int sample() {
+			int index = Arrays.binarySearch(cumulative, random.nextDouble());
+			int rank = index >= 0 ? index : -index - 1;
+			return Math.min(rank, cumulative.length - 1);
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package com.example.backend.benchmark;
+
+/**
+ * 벤치마크 데이터 규모 설정
+ * 게시물 수를 기준으로 나머지 데이터 수를 비율로 정한다.
+ *
+ * @param seed 난수 시드 (같은 시드면 같은 데이터가 생성된다)
+ * @param postCount 게시물 수
+ * @param memberCount 멤버 수
+ * @param hashtagCount 해시태그 종류 수
+ * @param minFollowing 멤버당 최소 팔로잉 수 (팔로잉 수는 파레토 분포)
+ * @param followingTailIndex 팔로잉 수 분포의 꼬리 지수 (작을수록 팔로잉이 많은 멤버가 많아진다)
+ * @param maxFollowing 멤버당 최대 팔로잉 수
+ * @param commentsPerPost 게시물당 평균 댓글 수
+ * @param likesPerPost 게시물당 평균 좋아요 수
+ * @param maxImagesPerPost 게시물당 최대 이미지 수
+ * @param maxHashtagsPerPost 게시물당 최대 해시태그 수
+ * @param dayRange 게시물 작성일 분포 범위 (일 단위, 현재 시각 이전)
+ */
+public record BenchmarkDataSpec(
+	long seed,
+	int postCount,
+	int memberCount,
+	int hashtagCount,
+	int minFollowing,
+	double followingTailIndex,
+	int maxFollowing,
+	double commentsPerPost,
+	double likesPerPost,
+	int maxImagesPerPost,
+	int maxHashtagsPerPost,
+	int dayRange
+) {
+
+	/**
+	 * 게시물 수에 맞춘 기본 설정 (멤버 수 = 게시물 수 / 10)
+	 */
+	public static BenchmarkDataSpec ofPosts(int postCount) {
+		return new BenchmarkDataSpec(
+			42L,
+			postCount,
+			Math.max(100, postCount / 10),
+			1_000,
+			5,
+			1.2,
+			10_000,
+			2.0,
+			3.0,
+			3,
+			3,
+			30);
+	}
+}
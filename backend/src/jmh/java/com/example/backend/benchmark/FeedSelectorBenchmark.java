@@ -0,0 +1,65 @@
+package com.example.backend.benchmark;
+
+import static com.example.backend.social.feed.constant.FeedConstants.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import com.example.backend.entity.MemberEntity;
+import com.example.backend.entity.MemberRepository;
+import com.example.backend.social.feed.Feed;
+import com.example.backend.social.feed.implement.FeedSelectorCache;
+
+/***
+ * FeedSelectorBenchmark
+ * FeedSelectorCache 의 조회 메서드별 처리량 (멤버 조회를 포함한 읽기 전용 트랜잭션 단위)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FeedSelectorBenchmark {
+
+	private static final int PAGE_SIZE = 10;
+
+	@Benchmark
+	public List<Feed> findByFollower(BenchmarkContext context, QueryCounter counter) {
+		return measure(context, counter,
+			member -> context.getBean(FeedSelectorCache.class).findByFollower(member, 0L, PAGE_SIZE));
+	}
+
+	@Benchmark
+	public List<Feed> findRecommendFinder(BenchmarkContext context, QueryCounter counter) {
+		LocalDateTime now = LocalDateTime.now();
+		return measure(context, counter,
+			member -> context.getBean(FeedSelectorCache.class)
+				.findRecommendFinder(member, now, now.minusDays(RECOMMEND_SEARCH_DATE_RANGE), PAGE_SIZE));
+	}
+
+	@Benchmark
+	public List<Feed> findByMember(BenchmarkContext context, QueryCounter counter) {
+		return measure(context, counter,
+			member -> context.getBean(FeedSelectorCache.class).findByMember(member, 0L, PAGE_SIZE));
+	}
+
+	@Benchmark
+	public Feed findByPostId(BenchmarkContext context, QueryCounter counter) {
+		Long postId = context.postId(counter.next());
+		return measure(context, counter,
+			member -> context.getBean(FeedSelectorCache.class).findByPostId(postId, member));
+	}
+
+	private static <T> T measure(BenchmarkContext context, QueryCounter counter, Function<MemberEntity, T> selector) {
+		long memberId = context.memberId(counter.next());
+		long before = context.statementCount();
+		T result = context.inReadOnlyTransaction(status -> selector.apply(
+			context.getBean(MemberRepository.class).findById(memberId).orElseThrow()));
+		counter.record(context.statementCount() - before);
+		return result;
+	}
+}
@@ -0,0 +1,35 @@
+package com.example.backend.benchmark;
+
+import static com.example.backend.social.feed.constant.FeedConstants.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import com.example.backend.social.feed.dto.FeedListResponse;
+import com.example.backend.social.feed.dto.FeedRequest;
+import com.example.backend.social.feed.service.FeedService;
+
+/***
+ * FeedServiceBenchmark
+ * 메인 피드 첫 페이지 조회 (FeedService.findList) 처리량
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FeedServiceBenchmark {
+
+	@Benchmark
+	public FeedListResponse findList(BenchmarkContext context, QueryCounter counter) {
+		long memberId = context.memberId(counter.next());
+		FeedRequest request = new FeedRequest(LocalDateTime.now(), 0L, REQUEST_FEED_MAX_SIZE);
+
+		long before = context.statementCount();
+		FeedListResponse response = context.getBean(FeedService.class).findList(request, memberId);
+		counter.record(context.statementCount() - before);
+		return response;
+	}
+}
@@ -0,0 +1,42 @@
+package com.example.backend.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/***
+ * QueryCounter
+ * 벤치마크 호출 한 번당 실행된 SQL 수를 보조 지표(queriesPerOp)로 보고하는 상태 객체
+ * 측정 대상 메서드에서 호출 전후의 statementCount 차이를 record 로 전달한다.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class QueryCounter {
+
+	private long statements;
+	private long operations;
+
+	// 시퀀스는 샘플 멤버 / 게시물을 돌아가며 고르는 데 사용한다
+	private int sequence;
+
+	@Setup(Level.Iteration)
+	public void reset() {
+		statements = 0;
+		operations = 0;
+	}
+
+	public double queriesPerOp() {
+		return operations == 0 ? 0 : (double)statements / operations;
+	}
+
+	int next() {
+		return sequence++;
+	}
+
+	void record(long statementCount) {
+		statements += statementCount;
+		operations++;
+	}
+}
@@ -0,0 +1,45 @@
+package com.example.backend.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import com.example.backend.content.search.dto.SearchPostCursorResponse;
+import com.example.backend.content.search.implement.SearchFinder;
+import com.example.backend.content.search.type.SearchType;
+
+/***
+ * SearchFinderBenchmark
+ * 작성자 / 해시태그 검색 (SearchFinder.findByKeyword) 첫 페이지 처리량
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SearchFinderBenchmark {
+
+	private static final int PAGE_SIZE = 10;
+
+	@Benchmark
+	public SearchPostCursorResponse findByAuthor(BenchmarkContext context, QueryCounter counter) {
+		String username = context.username(counter.next());
+		return measure(context, counter, SearchType.AUTHOR, username);
+	}
+
+	@Benchmark
+	public SearchPostCursorResponse findByHashtag(BenchmarkContext context, QueryCounter counter) {
+		String hashtag = context.hashtag(counter.next());
+		return measure(context, counter, SearchType.HASHTAG, hashtag);
+	}
+
+	private static SearchPostCursorResponse measure(
+		BenchmarkContext context, QueryCounter counter, SearchType type, String keyword) {
+
+		long before = context.statementCount();
+		SearchPostCursorResponse response = context.inReadOnlyTransaction(status ->
+			context.getBean(SearchFinder.class).findByKeyword(type, keyword, 0L, PAGE_SIZE));
+		counter.record(context.statementCount() - before);
+		return response;
+	}
+}
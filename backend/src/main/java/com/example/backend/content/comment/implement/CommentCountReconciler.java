@@ -0,0 +1,106 @@
+package com.example.backend.content.comment.implement;
+
+import static com.example.backend.entity.QCommentEntity.*;
+import static com.example.backend.entity.QPostEntity.*;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.backend.global.util.TransactionUtil;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/***
+ * CommentCountReconciler
+ * 게시물의 댓글 수(commentCount) 를 실제 댓글 수와 맞추는 컴포넌트
+ * 댓글 생성/삭제 시 증감 쿼리로 갱신하되, 변경된 게시물 ID 를 Redis Set 에 기록해두고
+ * 주기적으로 해당 게시물만 CHUNK_SIZE 개씩 다시 계산하여 어긋난 값을 보정한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentCountReconciler {
+
+	private static final String DIRTY_POST_KEY = "post:commentCount:dirty";
+	private static final int CHUNK_SIZE = 500;
+	private static final int MAX_CHUNKS_PER_RUN = 20;
+
+	private final JPAQueryFactory queryFactory;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final TransactionTemplate transactionTemplate;
+
+	/**
+	 * 댓글 수가 변경된 게시물을 보정 대상으로 기록한다 (트랜잭션 안에서 호출된 경우 커밋 이후 기록)
+	 * @param postId 게시물 ID
+	 */
+	public void markDirty(Long postId) {
+		TransactionUtil.afterCommit(() -> stringRedisTemplate.opsForSet().add(DIRTY_POST_KEY, String.valueOf(postId)));
+	}
+
+	/**
+	 * 1분마다 보정 대상 게시물의 댓글 수를 다시 계산한다
+	 * 청크마다 별도 트랜잭션으로 커밋하며, 커밋에 실패한 청크의 게시물 ID 는 다시 기록하여 다음 실행에서 처리한다
+	 */
+	@Scheduled(fixedRate = 60000)
+	public void reconcileDirtyPosts() {
+		long updatedPosts = 0;
+		for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+			List<String> dirtyPostIds = stringRedisTemplate.opsForSet().pop(DIRTY_POST_KEY, CHUNK_SIZE);
+			if (dirtyPostIds == null || dirtyPostIds.isEmpty()) {
+				break;
+			}
+
+			try {
+				List<Long> postIds = dirtyPostIds.stream().map(Long::valueOf).toList();
+				updatedPosts += transactionTemplate.execute(status -> reconcile(postIds));
+			} catch (Exception e) {
+				stringRedisTemplate.opsForSet().add(DIRTY_POST_KEY, dirtyPostIds.toArray(String[]::new));
+				log.error("댓글 수 보정 중 에러 발생: {}", e.getMessage(), e);
+				return;
+			}
+		}
+
+		if (updatedPosts > 0) {
+			log.info("게시글 {}개 -> 댓글 수 보정 완료", updatedPosts);
+		}
+	}
+
+	/**
+	 * 지정한 게시물의 댓글 수를 실제 댓글 수로 갱신한다 (호출한 쪽의 트랜잭션 안에서 실행)
+	 * @param postIds 게시물 ID 목록
+	 * @return 값이 달라 갱신된 게시물 수
+	 */
+	public long reconcile(Collection<Long> postIds) {
+		if (postIds.isEmpty()) {
+			return 0;
+		}
+
+		// 게시물마다 댓글 수를 계산하는 서브 쿼리
+		NumberExpression<Long> commentCountSubQuery = Expressions.numberTemplate(
+			Long.class,
+			"({0})",
+			JPAExpressions.select(commentEntity.count())
+				.from(commentEntity)
+				.where(commentEntity.post.id.eq(postEntity.id))
+		);
+
+		return queryFactory
+			.update(postEntity)
+			.set(postEntity.commentCount, commentCountSubQuery)
+			.where(
+				postEntity.id.in(postIds),
+				commentCountSubQuery.ne(postEntity.commentCount)
+			)
+			.execute();
+	}
+}
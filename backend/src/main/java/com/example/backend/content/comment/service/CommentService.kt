@@ -9,11 +9,14 @@ import com.example.backend.content.comment.dto.CommentModifyResponse
 import com.example.backend.content.comment.dto.CommentResponse
 import com.example.backend.content.comment.exception.CommentErrorCode
 import com.example.backend.content.comment.exception.CommentException
+import com.example.backend.content.comment.implement.CommentCountReconciler
 import com.example.backend.entity.CommentEntity
 import com.example.backend.entity.CommentRepository
 import com.example.backend.entity.MemberRepository
 import com.example.backend.entity.PostRepository
 import com.example.backend.global.event.CommentEvent
+import com.example.backend.social.feed.implement.PostPopularityScorer
+import com.example.backend.social.reaction.like.util.component.ResourceResolver
 import org.springframework.context.ApplicationEventPublisher
 import org.springframework.data.domain.Page
 import org.springframework.data.domain.Pageable
@@ -26,7 +29,10 @@ open class CommentService(
 	private val commentRepository: CommentRepository,
 	private val postRepository: PostRepository,
 	private val memberRepository: MemberRepository,
-	private val applicationEventPublisher: ApplicationEventPublisher
+	private val applicationEventPublisher: ApplicationEventPublisher,
+	private val postPopularityScorer: PostPopularityScorer,
+	private val commentCountReconciler: CommentCountReconciler,
+	private val resourceResolver: ResourceResolver
 ) {
 
 	/**
@@ -71,6 +77,13 @@ open class CommentService(
 
 		val savedComment = commentRepository.save(comment)
 
+		// 게시물 댓글 수 증가
+		postRepository.incrementCommentCount(post.getId()!!)
+		commentCountReconciler.markDirty(post.getId()!!)
+
+		// 추천 정렬용 인기 점수 반영
+		postPopularityScorer.applyCommentCreated(post.getId()!!)
+
 		// 이벤트 발행
 		applicationEventPublisher.publishEvent(
 			CommentEvent.create(
@@ -119,12 +132,18 @@ open class CommentService(
 
 		val hasChildren = commentRepository.existsByParentNum(comment.getId())
 
+		resourceResolver.evictComment(commentId)
+
 		if (hasChildren) {
 			// 자식 댓글이 있으면 Soft Delete
 			comment.deleteComment()
 		} else {
 			// 자식 없으면 DB에서 직접 삭제
+			val postId = comment.getPost().getId()!!
 			commentRepository.delete(comment)
+			postRepository.decrementCommentCount(postId)
+			// 추천 정렬용 인기 점수 반영 (댓글 수가 줄어드는 경우에만, Soft Delete 는 댓글 수를 유지)
+			postPopularityScorer.applyCommentDeleted(postId)
 
 			// 부모 댓글 정리
 			val parentNum = comment.getParentNum()
@@ -132,8 +151,14 @@ open class CommentService(
 				val parentOpt = commentRepository.findById(parentNum)
 				parentOpt
 					.filter { parent -> !commentRepository.existsByParentNum(parent.getId()) && parent.isDeleted() }
-					.ifPresent { parent -> commentRepository.delete(parent) }
+					.ifPresent { parent ->
+						commentRepository.delete(parent)
+						resourceResolver.evictComment(parent.getId())
+						postRepository.decrementCommentCount(postId)
+						postPopularityScorer.applyCommentDeleted(postId)
+					}
 			}
+			commentCountReconciler.markDirty(postId)
 		}
 
 		return CommentConverter.toDeleteResponse(comment.getId(), comment.getMember().getId())
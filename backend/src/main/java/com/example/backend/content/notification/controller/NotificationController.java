@@ -6,6 +6,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -16,6 +17,7 @@ import com.example.backend.content.notification.dto.NotificationPageResponse;
 import com.example.backend.content.notification.service.NotificationService;
 import com.example.backend.content.notification.sse.SseConnection;
 import com.example.backend.content.notification.sse.SseConnectionPool;
+import com.example.backend.content.notification.sse.SseDeliveryEngine;
 import com.example.backend.global.rs.RsData;
 import com.example.backend.identity.security.user.CustomUser;
 
@@ -31,14 +33,16 @@ import lombok.RequiredArgsConstructor;
 public class NotificationController {
 
 	private final SseConnectionPool sseConnectionPool;
+	private final SseDeliveryEngine sseDeliveryEngine;
 	private final NotificationService notificationService;
 
 	@GetMapping(value = "/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
 	public SseEmitter subscribe(
 		@RequestParam(name = "userId") String userId,
-		@RequestParam(name = "browserName", defaultValue = "unknown") String browserName) {
+		@RequestParam(name = "browserName", defaultValue = "unknown") String browserName,
+		@RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
 		SseConnection connection = SseConnection.connect(
-			String.valueOf(userId), browserName, sseConnectionPool);
+			String.valueOf(userId), browserName, lastEventId, sseConnectionPool, sseDeliveryEngine);
 
 		return connection.getSseEmitter();
 	}
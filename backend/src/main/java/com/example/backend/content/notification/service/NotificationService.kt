@@ -4,17 +4,18 @@ import com.example.backend.content.notification.converter.NotificationConverter
 import com.example.backend.content.notification.dto.NotificationPageResponse
 import com.example.backend.content.notification.exception.NotificationErrorCode
 import com.example.backend.content.notification.exception.NotificationException
-import com.example.backend.content.notification.sse.SseConnectionPool
+import com.example.backend.content.notification.sse.NotificationBackplane
 import com.example.backend.content.notification.type.NotificationType
+import com.example.backend.content.notification.writer.NotificationWriteBuffer
 import com.example.backend.entity.NotificationEntity
 import com.example.backend.entity.NotificationRepository
 import org.springframework.beans.factory.annotation.Autowired
 import org.springframework.data.domain.PageRequest
 import org.springframework.data.domain.Sort
-import org.springframework.scheduling.annotation.Async
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
 import java.time.LocalDateTime
+import java.util.function.IntFunction
 
 /**
  * @author kwak
@@ -24,7 +25,8 @@ import java.time.LocalDateTime
 open class NotificationService @Autowired constructor(
     private val notificationRepository: NotificationRepository,
     private val converter: NotificationConverter,
-    private val sseConnectionPool: SseConnectionPool
+    private val notificationBackplane: NotificationBackplane,
+    private val notificationWriteBuffer: NotificationWriteBuffer
 ) {
 
     companion object {
@@ -35,26 +37,63 @@ open class NotificationService @Autowired constructor(
     /**
      * 각 targetId 는
      * Like -> postId, Follow -> senderId, Comment -> commentId
+     * 저장은 NotificationWriteBuffer 가 배치로 처리하고, ID 가 할당된 알림을 바로 반환한다
      * @author kwak
      * @since 2025-02-11
      */
-    @Transactional
     open fun createNotification(memberId: Long, targetId: Long, type: NotificationType, message: String): NotificationEntity {
-        // 알림 엔티티 생성 및 저장
+        // 알림 엔티티 생성 및 저장 대기열에 추가
         val notificationEntity = NotificationEntity.create(message, memberId, type, targetId)
-        return notificationRepository.save(notificationEntity)
+        return notificationWriteBuffer.add(notificationEntity)
 
         // sse 로 실시간 알림 전송
         // sseConnectionPool.sendNotification(memberId, converter.toResponse(notification, targetId))
     }
 
-    @Async
+    /**
+     * 같은 리소스의 읽지 않은 좋아요 알림이 있으면 새로 좋아요 한 멤버를 합쳐 갱신하고, 없으면 새로 저장
+     * 아직 저장 대기 중인 알림을 DB 보다 먼저 확인한다 (markRead 와 같은 순서)
+     * @param actorCount 이번에 새로 좋아요 한 멤버 수
+     * @param messageOf 합쳐진 전체 멤버 수로 알림 메시지 생성
+     */
+    @Transactional
+    open fun mergeLikeNotification(
+        memberId: Long,
+        targetId: Long,
+        targetType: String,
+        actorCount: Int,
+        messageOf: IntFunction<String>
+    ): NotificationEntity {
+        notificationWriteBuffer.mergeLikePending(memberId, targetId, targetType, actorCount, messageOf)
+            ?.let { return it }
+
+        val unread = notificationRepository.findUnreadLike(memberId, targetId, targetType).orElse(null)
+        if (unread == null) {
+            return notificationWriteBuffer.add(
+                NotificationEntity.createLike(messageOf.apply(actorCount), memberId, targetId, targetType, actorCount)
+            )
+        }
+
+        unread.mergeActors(messageOf.apply(unread.actorCount + actorCount), actorCount)
+        return unread
+    }
+
+    /**
+     * 알림을 받을 멤버의 SSE 연결이 있는 노드로 전달하여 전송
+     * 연결마다 전송 큐에 넣기만 하므로 (SseDeliveryEngine) 호출 스레드에서 바로 처리한다
+     */
     open fun sendNotification(memberId: Long, notification: NotificationEntity) {
-        sseConnectionPool.sendNotification(memberId, converter.toResponse(notification, notification.targetId))
+        notificationBackplane.publish(memberId, converter.toResponse(notification, notification.targetId))
     }
 
     @Transactional
     open fun markRead(notificationId: Long, memberId: Long) {
+        // 전송은 되었지만 아직 저장 대기 중인 알림이면 읽음 상태로 저장되도록 하고 끝낸다
+        // (DB 조회보다 먼저 확인하여, 조회 이후에 저장된 알림을 찾지 못하는 경우가 없도록 한다)
+        if (notificationWriteBuffer.markReadPending(notificationId, memberId)) {
+            return
+        }
+
         val notification = notificationRepository
             .findByIdAndMemberId(notificationId, memberId)
             .orElseThrow { NotificationException(NotificationErrorCode.NOTIFICATION_NOT_FOUND) }
@@ -0,0 +1,24 @@
+package com.example.backend.content.notification.sse;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.content.notification.dto.NotificationResponse;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 단일 노드용 알림 전달 경로 (이 노드의 연결로만 전송)
+ */
+@Component
+@ConditionalOnProperty(name = "custom.notification.backplane", havingValue = "local")
+@RequiredArgsConstructor
+public class LocalNotificationBackplane implements NotificationBackplane {
+
+	private final SseConnectionPool sseConnectionPool;
+
+	@Override
+	public void publish(Long memberId, NotificationResponse response) {
+		sseConnectionPool.sendNotification(memberId, response);
+	}
+}
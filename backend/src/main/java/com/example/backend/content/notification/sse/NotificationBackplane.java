@@ -0,0 +1,12 @@
+package com.example.backend.content.notification.sse;
+
+import com.example.backend.content.notification.dto.NotificationResponse;
+
+/**
+ * 알림 전달 경로
+ * 알림을 받을 멤버의 SSE 연결을 가진 노드에서 전송되도록 전달합니다.
+ * custom.notification.backplane 값으로 구현을 선택합니다. (redis : 노드 간 전달, local : 단일 노드)
+ */
+public interface NotificationBackplane {
+	void publish(Long memberId, NotificationResponse response);
+}
@@ -0,0 +1,99 @@
+package com.example.backend.content.notification.sse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.content.notification.dto.NotificationResponse;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis Pub/Sub 알림 전달 경로
+ * 노드마다 자신의 채널(sse:node:{nodeId}) 을 구독하고,
+ * 알림은 SseConnectionRegistry 에 기록된 노드의 채널에만 발행합니다.
+ * 연결이 이 노드에 있으면 발행하지 않고 바로 전송합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.notification.backplane", havingValue = "redis", matchIfMissing = true)
+public class RedisNotificationBackplane implements NotificationBackplane, MessageListener {
+
+	private static final String CHANNEL_PREFIX = "sse:node:";
+
+	private final SseConnectionPool sseConnectionPool;
+	private final SseConnectionRegistry sseConnectionRegistry;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ObjectMapper objectMapper;
+
+	public RedisNotificationBackplane(
+		SseConnectionPool sseConnectionPool,
+		SseConnectionRegistry sseConnectionRegistry,
+		StringRedisTemplate stringRedisTemplate,
+		ObjectMapper objectMapper,
+		RedisMessageListenerContainer listenerContainer
+	) {
+		this.sseConnectionPool = sseConnectionPool;
+		this.sseConnectionRegistry = sseConnectionRegistry;
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.objectMapper = objectMapper;
+
+		String channel = CHANNEL_PREFIX + sseConnectionRegistry.getNodeId();
+		listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+	}
+
+	@Override
+	public void publish(Long memberId, NotificationResponse response) {
+		Set<String> nodes = sseConnectionRegistry.findNodes(memberId);
+		if (nodes.isEmpty()) {
+			log.info("No active connection for user: {}", memberId);
+			return;
+		}
+
+		String payload = null;
+		for (String node : nodes) {
+			if (node.equals(sseConnectionRegistry.getNodeId())) {
+				sseConnectionPool.sendNotification(memberId, response);
+				continue;
+			}
+			if (payload == null) {
+				payload = serialize(memberId, response);
+			}
+			stringRedisTemplate.convertAndSend(CHANNEL_PREFIX + node, payload);
+		}
+	}
+
+	/**
+	 * 다른 노드에서 발행한 알림을 이 노드의 연결로 전송
+	 */
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		try {
+			NotificationMessage notification = objectMapper.readValue(
+				new String(message.getBody(), StandardCharsets.UTF_8), NotificationMessage.class);
+			sseConnectionPool.sendNotification(notification.memberId(), notification.response());
+		} catch (Exception e) {
+			log.error("알림 메시지 처리 실패: {}", e.getMessage(), e);
+		}
+	}
+
+	private String serialize(Long memberId, NotificationResponse response) {
+		try {
+			return objectMapper.writeValueAsString(new NotificationMessage(memberId, response));
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("알림 메시지 직렬화 실패", e);
+		}
+	}
+
+	record NotificationMessage(Long memberId, NotificationResponse response) {
+	}
+}
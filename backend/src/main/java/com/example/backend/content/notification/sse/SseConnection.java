@@ -19,22 +19,36 @@ public class SseConnection {
 	private final String browserName;
 	private final SseEmitter sseEmitter;
 	private final SseConnectionPoolIfs<SseConnection> sseConnectionPoolIfs;
+	private final SseDeliveryEngine.Outbox outbox;
+
+	// 재연결 시 클라이언트가 보낸 마지막 이벤트 ID (없으면 null)
+	private final String lastEventId;
 
 	private static final Long DEFAULT_MINUTE = 1000L * 30 * 5;
 
 	private SseConnection(
 		String uniqueKey,
 		String browserName,
-		SseConnectionPoolIfs<SseConnection> sseConnectionPoolIfs
+		String lastEventId,
+		SseConnectionPoolIfs<SseConnection> sseConnectionPoolIfs,
+		SseDeliveryEngine sseDeliveryEngine
 	) {
 		this.uniqueKey = uniqueKey;
 		this.browserName = browserName;
+		this.lastEventId = lastEventId;
 		this.sseEmitter = new SseEmitter(DEFAULT_MINUTE);
 		this.sseConnectionPoolIfs = sseConnectionPoolIfs;
+		this.outbox = sseDeliveryEngine.open(uniqueKey + "-" + browserName, sseEmitter);
 
 		this.sseEmitter.onTimeout(sseEmitter::complete);
-		this.sseEmitter.onCompletion(() -> sseConnectionPoolIfs.remove(this));
-		this.sseEmitter.onError(ex -> sseConnectionPoolIfs.remove(this));
+		this.sseEmitter.onCompletion(() -> {
+			outbox.close();
+			sseConnectionPoolIfs.remove(this);
+		});
+		this.sseEmitter.onError(ex -> {
+			outbox.close();
+			sseConnectionPoolIfs.remove(this);
+		});
 	}
 
 	/**
@@ -45,25 +59,46 @@ public class SseConnection {
 	public static SseConnection connect(
 		String userId,
 		String browserName,
-		SseConnectionPoolIfs<SseConnection> sseConnectionPoolIfs
+		SseConnectionPoolIfs<SseConnection> sseConnectionPoolIfs,
+		SseDeliveryEngine sseDeliveryEngine
+	) {
+		return connect(userId, browserName, null, sseConnectionPoolIfs, sseDeliveryEngine);
+	}
+
+	/**
+	 * Last-Event-ID 와 함께 재연결 (Pool 에 add 하면서 놓친 알림을 재전송)
+	 */
+	public static SseConnection connect(
+		String userId,
+		String browserName,
+		String lastEventId,
+		SseConnectionPoolIfs<SseConnection> sseConnectionPoolIfs,
+		SseDeliveryEngine sseDeliveryEngine
 	) {
-		SseConnection connection = new SseConnection(userId, browserName, sseConnectionPoolIfs);
+		SseConnection connection = new SseConnection(
+			userId, browserName, lastEventId, sseConnectionPoolIfs, sseDeliveryEngine);
 		sseConnectionPoolIfs.add(userId, browserName, connection);
 		return connection;
 	}
 
+	/**
+	 * 전송 큐에 메시지를 넣고 바로 반환 (전송은 SseDeliveryEngine 의 writer 가 처리)
+	 */
 	public void sendMessage(String eventName, Object data) {
-		try {
+		outbox.offer(eventName, data);
+	}
 
-			SseEmitter.SseEventBuilder event = SseEmitter.event()
-				.name(eventName) // 이벤트 이름 설정
-				.data(data); // 전송할 데이터 설정
-			this.sseEmitter.send(event);
-			log.info("Message sent successfully: {}", eventName);
+	/**
+	 * 이벤트 ID 를 붙여 전송 (SseReplayBuffer 에서 발급한 ID)
+	 */
+	public void sendMessage(String eventName, String eventId, Object data) {
+		outbox.offer(eventName, eventId, data);
+	}
 
-		} catch (Exception e) {
-			log.error("Message sent failed: {}", eventName);
-			sseEmitter.completeWithError(e);
-		}
+	/**
+	 * 전송 실패 / 느린 클라이언트 종료 등으로 더 이상 전송할 수 없는 연결인지 확인
+	 */
+	public boolean isClosed() {
+		return outbox.isClosed();
 	}
 }
@@ -7,6 +7,7 @@ import org.springframework.stereotype.Component;
 
 import com.example.backend.content.notification.dto.NotificationResponse;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -17,20 +18,46 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Component
 @Slf4j
+@RequiredArgsConstructor
 public class SseConnectionPool implements SseConnectionPoolIfs<SseConnection> {
 
 	private final Map<String, Map<String, SseConnection>> connectionPool = new ConcurrentHashMap<>();
 
+	// 이 노드에 연결이 생기거나 모두 끊어지면 연결 위치를 갱신
+	// (연결 상태는 연결 목록 변경과 같은 키 잠금 안에서 메모리로만 바꾸고, Redis 기록은 잠금 밖에서 한다)
+	private final SseConnectionRegistry sseConnectionRegistry;
+
+	// 연결마다 heartbeat 를 보내고, 종료된 연결을 정리
+	private final SseHeartbeatWheel sseHeartbeatWheel;
+
+	// 알림에 이벤트 ID 를 붙이고, 재연결 시 놓친 알림을 재전송
+	private final SseReplayBuffer sseReplayBuffer;
+
 	// key 가 존재하면 기존의 sse connection 을 닫아주고 새로 생성
 	// key 가 존재하지 않으면 새 connection 생성
+	// Last-Event-ID 가 있으면 등록과 함께 그 이후의 알림을 재전송
 	@Override
 	public void add(String key, String browserName, SseConnection connection) {
-		Map<String, SseConnection> browserConnections = connectionPool.computeIfAbsent(key,
-			k -> new ConcurrentHashMap<>());
+		SseConnection[] replaced = {null};
+		boolean[] firstConnection = {false};
+		sseReplayBuffer.subscribe(key, connection.getLastEventId(), () ->
+			connectionPool.compute(key, (k, browserConnections) -> {
+				if (browserConnections == null) {
+					browserConnections = new ConcurrentHashMap<>();
+					sseConnectionRegistry.markConnected(k);
+					firstConnection[0] = true;
+				}
+				// 기존에 존재하는 key 면 oldConnection 반환
+				replaced[0] = browserConnections.put(browserName, connection);
+				return browserConnections;
+			}), connection);
 
-		// 기존에 존재하는 key 면 oldConnection 반환
-		SseConnection oldConnection = browserConnections.put(browserName, connection);
+		if (firstConnection[0]) {
+			sseConnectionRegistry.register(key);
+		}
+		sseHeartbeatWheel.schedule(connection);
 
+		SseConnection oldConnection = replaced[0];
 		if (oldConnection != null) {
 			try {
 				oldConnection.getSseEmitter().complete();
@@ -47,43 +74,34 @@ public class SseConnectionPool implements SseConnectionPoolIfs<SseConnection> {
 
 	@Override
 	public void remove(SseConnection session) {
-		Map<String, SseConnection> browserConnections = connectionPool.get(session.getUniqueKey());
-		// connection 이 있으면 해당 connection 을 제거 , 없으면 key 로 제거
-		if (browserConnections != null) {
-			browserConnections.remove(session.getBrowserName());
+		sseHeartbeatWheel.cancel(session);
+
+		// 해당 connection 을 제거하고, 남은 connection 이 없으면 key 로 제거
+		// (교체된 이전 connection 이 종료될 때 새 connection 이 제거되지 않도록 같은 객체인 경우에만 제거)
+		connectionPool.computeIfPresent(session.getUniqueKey(), (k, browserConnections) -> {
+			browserConnections.remove(session.getBrowserName(), session);
 			if (browserConnections.isEmpty()) {
-				connectionPool.remove(session.getUniqueKey());
+				sseConnectionRegistry.markDisconnected(k);
+				return null;
 			}
-		}
+			return browserConnections;
+		});
 	}
 
 	// 연결이 여러 곳에서 되어 있을 경우 연결마다 알림을 전송 처리
+	// 연결이 잠시 끊어진 경우에도 재연결 시 보낼 수 있도록 버퍼에 보관
 	public void sendNotification(Long userId, NotificationResponse response) {
-		Map<String, SseConnection> browserConnections = get(userId.toString());
+		String key = userId.toString();
+		sseReplayBuffer.publish(key, response, entry -> {
+			Map<String, SseConnection> browserConnections = get(key);
 
-		if (browserConnections == null || browserConnections.isEmpty()) {
-			log.info("No active connection for user: {}", userId);
-			return;
-			// todo 추후 상대방이 접속하지 않았을 시 알림 목록으로 보냄
-		}
-		browserConnections.forEach((browserName, sseConnection) ->
-			sseConnection.sendMessage("message", response));
-
-	}
-
-	/*@Scheduled(fixedRate = 20000)
-	public void sendHeartbeat() {
-		connectionPool.forEach((key, connections) -> {
-			connections.forEach((browserName, connection) -> {
-				try {
-					connection.sendMessage("heartbeat", "thump");
-					log.info("Sending heartbeat for user {} browser {} connection {}", key, browserName, connection);
-				} catch (Exception e) {
-					log.info("Falid to send heartbeat = {}", key, e);
-					remove(connection);
-				}
-			});
+			if (browserConnections == null || browserConnections.isEmpty()) {
+				log.info("No active connection for user: {}", userId);
+				return;
+			}
+			browserConnections.forEach((browserName, sseConnection) ->
+				sseConnection.sendMessage("message", entry.id(), entry.data()));
 		});
-	}*/
+	}
 
 }
@@ -0,0 +1,139 @@
+package com.example.backend.content.notification.sse;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SSE 연결 위치 저장소
+ * 멤버별로 SSE 연결을 가지고 있는 노드 ID 를 Redis Set 에 기록하여,
+ * 알림을 모든 노드에 보내지 않고 연결을 가진 노드에만 전달할 수 있도록 합니다.
+ * 노드가 비정상 종료된 경우를 위해 Set 에 TTL 을 두고, 연결이 유지되는 동안 주기적으로 연장합니다.
+ * 마지막 연결이 끊어진 뒤에도 재전송 버퍼 유지 시간(replay.ttlMs) 동안은 위치를 남겨두어,
+ * 그 사이의 알림이 이 노드의 SseReplayBuffer 에 쌓였다가 Last-Event-ID 로 재연결할 때 재전송되도록 합니다.
+ */
+@Slf4j
+@Component
+public class SseConnectionRegistry {
+
+	private static final String KEY_PREFIX = "sse:nodes:";
+	private static final Duration LOCATION_TTL = Duration.ofMinutes(3);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final String nodeId;
+
+	private final long lingerMs;
+
+	// 이 노드에 연결이 있는 멤버
+	private final Set<String> localMembers = ConcurrentHashMap.newKeySet();
+
+	// 연결이 모두 끊어졌지만 위치를 남겨두는 멤버와 위치를 해제할 시간
+	private final Map<String, Long> disconnectedUntil = new ConcurrentHashMap<>();
+
+	public SseConnectionRegistry(
+		StringRedisTemplate stringRedisTemplate,
+		@Value("${custom.notification.node:${HOSTNAME:node}}") String nodeName,
+		@Value("${custom.notification.sse.replay.ttlMs:600000}") long lingerMs
+	) {
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.lingerMs = lingerMs;
+		// 같은 호스트에서 여러 프로세스가 실행되어도 구분되도록 실행마다 고유한 ID 를 붙인다
+		this.nodeId = nodeName + "-" + UUID.randomUUID().toString().substring(0, 8);
+	}
+
+	public String getNodeId() {
+		return nodeId;
+	}
+
+	/**
+	 * 이 노드에 멤버의 첫 연결이 생긴 경우 호출
+	 * SseConnectionPool 의 연결 목록 잠금 안에서 호출하므로 메모리 상태만 바꾸며, Redis 기록은 register 에서 한다
+	 */
+	public void markConnected(String memberKey) {
+		disconnectedUntil.remove(memberKey);
+		localMembers.add(memberKey);
+	}
+
+	/**
+	 * 이 노드에서 멤버의 마지막 연결이 끊어진 경우 호출 (연결 목록 잠금 안에서 호출)
+	 * 위치는 lingerMs 가 지난 뒤 refresh 에서 해제한다
+	 */
+	public void markDisconnected(String memberKey) {
+		localMembers.remove(memberKey);
+		disconnectedUntil.put(memberKey, System.currentTimeMillis() + lingerMs);
+	}
+
+	/**
+	 * 멤버의 연결 위치를 Redis 에 기록 (markConnected 이후 잠금 밖에서 호출)
+	 */
+	public void register(String memberKey) {
+		try {
+			String key = KEY_PREFIX + memberKey;
+			stringRedisTemplate.opsForSet().add(key, nodeId);
+			stringRedisTemplate.expire(key, LOCATION_TTL);
+		} catch (Exception e) {
+			log.error("SSE 연결 위치 등록 실패: {}", memberKey, e);
+		}
+	}
+
+	/**
+	 * 멤버의 SSE 연결을 가지고 있는 노드 ID 목록
+	 */
+	public Set<String> findNodes(Long memberId) {
+		Set<String> nodes = stringRedisTemplate.opsForSet().members(KEY_PREFIX + memberId);
+		return nodes == null ? Set.of() : nodes;
+	}
+
+	/**
+	 * 연결이 끊어진 뒤 lingerMs 가 지난 멤버의 위치를 해제하고,
+	 * 이 노드에 연결되어 있거나 위치를 남겨둔 멤버의 위치 TTL 을 연장 (연결이 끊기지 않은 채로 위치가 만료되지 않도록)
+	 */
+	@Scheduled(fixedDelay = 60_000)
+	public void refresh() {
+		expireDisconnected(System.currentTimeMillis());
+
+		Set<String> members = new HashSet<>(localMembers);
+		members.addAll(disconnectedUntil.keySet());
+		if (members.isEmpty()) {
+			return;
+		}
+		stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection stringConnection = (StringRedisConnection)connection;
+			for (String memberKey : members) {
+				stringConnection.sAdd(KEY_PREFIX + memberKey, nodeId);
+				stringConnection.expire(KEY_PREFIX + memberKey, LOCATION_TTL.toSeconds());
+			}
+			return null;
+		});
+	}
+
+	// 해제 시간이 바뀌지 않은 경우에만 제거하고, Redis 해제는 맵 잠금 밖에서 한다
+	// 해제하는 사이에 다시 연결된 멤버는 위치를 다시 기록한다
+	private void expireDisconnected(long now) {
+		disconnectedUntil.forEach((memberKey, until) -> {
+			if (until > now || !disconnectedUntil.remove(memberKey, until)) {
+				return;
+			}
+			try {
+				stringRedisTemplate.opsForSet().remove(KEY_PREFIX + memberKey, nodeId);
+			} catch (Exception e) {
+				log.error("SSE 연결 위치 해제 실패: {}", memberKey, e);
+			}
+			if (localMembers.contains(memberKey)) {
+				register(memberKey);
+			}
+		});
+	}
+}
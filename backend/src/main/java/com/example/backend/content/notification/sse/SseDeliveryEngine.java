@@ -0,0 +1,201 @@
+package com.example.backend.content.notification.sse;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * SSE 전송 엔진
+ * 연결마다 크기가 제한된 전송 큐와 가상 스레드 writer 를 두어, 알림을 보내는 스레드는 큐에 넣기만 합니다.
+ * 큐가 가득 차면 가장 오래된 메시지를 버리고 (drop-oldest), heartbeat 처럼 같은 이벤트가 이미 대기 중이면 합칩니다.
+ * 메시지를 전혀 가져가지 못해 큐 크기만큼 버려진 연결은 느린 클라이언트로 보고 연결을 종료합니다.
+ */
+@Slf4j
+@Component
+public class SseDeliveryEngine {
+
+	// 대기 중인 같은 이름의 이벤트가 있으면 새로 넣지 않는 이벤트
+	private static final Set<String> COALESCED_EVENTS = Set.of("heartbeat");
+
+	private final int queueCapacity;
+	private final Set<Outbox> outboxes = ConcurrentHashMap.newKeySet();
+
+	private final Timer sendTimer;
+	private final Timer queueWaitTimer;
+	private final Counter overflowCounter;
+	private final Counter coalescedCounter;
+	private final Counter evictedCounter;
+
+	public SseDeliveryEngine(
+		MeterRegistry meterRegistry,
+		@Value("${custom.notification.sse.queueCapacity:64}") int queueCapacity
+	) {
+		this.queueCapacity = queueCapacity;
+
+		this.sendTimer = Timer.builder("sse.send")
+			.description("SSE 이벤트 전송 시간")
+			.publishPercentiles(0.5, 0.95, 0.99)
+			.register(meterRegistry);
+		this.queueWaitTimer = Timer.builder("sse.queue.wait")
+			.description("SSE 이벤트가 전송 큐에서 대기한 시간")
+			.publishPercentiles(0.5, 0.95, 0.99)
+			.register(meterRegistry);
+		this.overflowCounter = Counter.builder("sse.dropped")
+			.tag("reason", "overflow")
+			.register(meterRegistry);
+		this.coalescedCounter = Counter.builder("sse.dropped")
+			.tag("reason", "coalesced")
+			.register(meterRegistry);
+		this.evictedCounter = Counter.builder("sse.evicted")
+			.description("느린 클라이언트로 판단되어 종료된 연결 수")
+			.register(meterRegistry);
+
+		Gauge.builder("sse.connections", outboxes, Set::size)
+			.register(meterRegistry);
+		Gauge.builder("sse.queue.depth", this, SseDeliveryEngine::getQueueDepth)
+			.description("전송 대기 중인 SSE 이벤트 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 연결의 전송 큐와 writer 를 생성
+	 */
+	public Outbox open(String name, SseEmitter sseEmitter) {
+		Outbox outbox = new Outbox(sseEmitter, new ArrayBlockingQueue<>(queueCapacity));
+		outboxes.add(outbox);
+		outbox.writer = Thread.ofVirtual().name("sse-writer-" + name).start(outbox::drain);
+		return outbox;
+	}
+
+	private long getQueueDepth() {
+		long depth = 0;
+		for (Outbox outbox : outboxes) {
+			depth += outbox.queue.size();
+		}
+		return depth;
+	}
+
+	private record Event(String name, String id, Object data, long enqueuedAt) {
+	}
+
+	/**
+	 * 연결 하나의 전송 큐 (여러 스레드가 넣고 writer 하나가 꺼낸다)
+	 */
+	public class Outbox {
+		private final SseEmitter sseEmitter;
+		private final BlockingQueue<Event> queue;
+		private volatile Thread writer;
+		private volatile boolean closed;
+
+		// 마지막으로 전송에 성공한 이후 버려진 메시지 수
+		private int droppedSinceLastSend;
+
+		private Outbox(SseEmitter sseEmitter, BlockingQueue<Event> queue) {
+			this.sseEmitter = sseEmitter;
+			this.queue = queue;
+		}
+
+		/**
+		 * 전송 큐에 이벤트 추가 (대기하지 않음)
+		 */
+		public void offer(String eventName, Object data) {
+			offer(eventName, null, data);
+		}
+
+		/**
+		 * 이벤트 ID 와 함께 전송 큐에 추가 (클라이언트가 재연결 시 Last-Event-ID 로 보낸다)
+		 */
+		public synchronized void offer(String eventName, String eventId, Object data) {
+			if (closed) {
+				return;
+			}
+			if (COALESCED_EVENTS.contains(eventName)
+				&& queue.stream().anyMatch(event -> event.name().equals(eventName))) {
+				coalescedCounter.increment();
+				return;
+			}
+
+			Event event = new Event(eventName, eventId, data, System.nanoTime());
+			while (!queue.offer(event)) {
+				queue.poll();
+				overflowCounter.increment();
+				if (++droppedSinceLastSend >= queueCapacity) {
+					evict();
+					return;
+				}
+			}
+		}
+
+		/**
+		 * 전송 큐와 writer 종료 (연결 종료 / 오류 / 시간 초과 시)
+		 */
+		public void close() {
+			closed = true;
+			outboxes.remove(this);
+			queue.clear();
+			Thread thread = writer;
+			if (thread != null) {
+				thread.interrupt();
+			}
+		}
+
+		public boolean isClosed() {
+			return closed;
+		}
+
+		private void evict() {
+			log.info("Evicting slow SSE consumer: {}", writer == null ? "" : writer.getName());
+			evictedCounter.increment();
+			close();
+			// 전송 중에 막혀 있는 writer 를 기다리지 않도록 다른 스레드에서 종료
+			Thread.ofVirtual().start(sseEmitter::complete);
+		}
+
+		private void drain() {
+			while (!closed) {
+				Event event;
+				try {
+					event = queue.take();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+
+				queueWaitTimer.record(System.nanoTime() - event.enqueuedAt(), TimeUnit.NANOSECONDS);
+				long start = System.nanoTime();
+				try {
+					SseEmitter.SseEventBuilder builder = SseEmitter.event()
+						.name(event.name()) // 이벤트 이름 설정
+						.data(event.data()); // 전송할 데이터 설정
+					if (event.id() != null) {
+						builder.id(event.id());
+					}
+					sseEmitter.send(builder);
+				} catch (Exception e) {
+					log.error("Message sent failed: {}", event.name());
+					close();
+					sseEmitter.completeWithError(e);
+					return;
+				} finally {
+					sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+				}
+
+				synchronized (this) {
+					droppedSinceLastSend = 0;
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package com.example.backend.content.notification.sse;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * SSE heartbeat 타이밍 휠
+ * heartbeat 주기를 TICK_MS 단위 칸으로 나누고, 연결을 임의의 칸에 고르게 배치합니다.
+ * 한 번의 tick 에서는 한 칸의 연결에만 heartbeat 를 보내므로, 주기마다 모든 연결을 한 번에 순회하지 않습니다.
+ * heartbeat 는 SseDeliveryEngine 의 전송 큐로 보내며, 전송에 실패한 연결은 writer 가 종료하고
+ * 연결이 풀에서 제거될 때 휠에서도 바로 제거됩니다 (cancel). 이미 종료된 연결은 자기 칸을 처리할 때 정리합니다.
+ */
+@Component
+public class SseHeartbeatWheel {
+
+	private static final long TICK_MS = 100;
+
+	private final Set<SseConnection>[] buckets;
+	private final Map<SseConnection, Integer> slots = new ConcurrentHashMap<>();
+
+	// tick 스레드에서만 변경
+	private int cursor;
+
+	private final Counter reapedCounter;
+
+	@SuppressWarnings("unchecked")
+	public SseHeartbeatWheel(
+		MeterRegistry meterRegistry,
+		@Value("${custom.notification.sse.heartbeatMs:20000}") long heartbeatMs
+	) {
+		int wheelSize = (int)Math.max(1, heartbeatMs / TICK_MS);
+		this.buckets = new Set[wheelSize];
+		for (int i = 0; i < wheelSize; i++) {
+			buckets[i] = ConcurrentHashMap.newKeySet();
+		}
+
+		this.reapedCounter = Counter.builder("sse.reaped")
+			.description("heartbeat 시점에 이미 종료되어 정리된 연결 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 연결을 임의의 칸에 배치 (같은 시점에 연결된 연결도 heartbeat 시점이 고르게 나뉜다)
+	 */
+	public void schedule(SseConnection connection) {
+		int slot = ThreadLocalRandom.current().nextInt(buckets.length);
+		if (slots.putIfAbsent(connection, slot) == null) {
+			buckets[slot].add(connection);
+		}
+	}
+
+	/**
+	 * 연결 제거 (O(1))
+	 */
+	public void cancel(SseConnection connection) {
+		Integer slot = slots.remove(connection);
+		if (slot != null) {
+			buckets[slot].remove(connection);
+		}
+	}
+
+	public int size() {
+		return slots.size();
+	}
+
+	@Scheduled(fixedRate = TICK_MS)
+	public void tick() {
+		Set<SseConnection> bucket = buckets[cursor];
+		cursor = (cursor + 1) % buckets.length;
+
+		for (SseConnection connection : bucket) {
+			// 종료 콜백이 호출되지 않은 연결도 풀에서 정리
+			if (connection.isClosed()) {
+				cancel(connection);
+				connection.getSseConnectionPoolIfs().remove(connection);
+				reapedCounter.increment();
+				continue;
+			}
+			connection.sendMessage("heartbeat", "thump");
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package com.example.backend.content.notification.sse;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * SSE 재연결 시 놓친 알림을 다시 보내기 위한 버퍼
+ * 이 노드에서 전송하는 알림마다 증가하는 이벤트 ID ({nodeId}:{seq}) 를 붙이고,
+ * 멤버별로 최근 알림을 크기가 제한된 버퍼에 보관합니다.
+ * 클라이언트가 Last-Event-ID 와 함께 재연결하면 그 이후의 알림을 메모리에서 다시 보내며,
+ * 다른 노드의 ID 이거나 버퍼에서 이미 밀려난 경우에는 resync 이벤트를 보내 목록을 다시 조회하도록 합니다.
+ */
+@Component
+public class SseReplayBuffer {
+
+	public static final String RESYNC_EVENT = "resync";
+
+	private static final int MAX_MEMBERS = 100_000;
+
+	private final String nodeId;
+	private final int capacity;
+	private final AtomicLong sequence = new AtomicLong();
+	private final Cache<String, MemberEvents> buffers;
+
+	private final Counter replayedCounter;
+	private final Counter resyncCounter;
+
+	public SseReplayBuffer(
+		SseConnectionRegistry sseConnectionRegistry,
+		MeterRegistry meterRegistry,
+		@Value("${custom.notification.sse.replay.capacity:32}") int capacity,
+		@Value("${custom.notification.sse.replay.ttlMs:600000}") long ttlMs
+	) {
+		this.nodeId = sseConnectionRegistry.getNodeId();
+		this.capacity = capacity;
+		// 재연결 / 알림 전송 시마다 접근하므로, 연결이 끊긴 채 ttl 이 지난 멤버의 버퍼만 제거된다
+		this.buffers = Caffeine.newBuilder()
+			.maximumSize(MAX_MEMBERS)
+			.expireAfterAccess(Duration.ofMillis(ttlMs))
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, buffers, "sse.replay");
+
+		this.replayedCounter = Counter.builder("sse.replayed")
+			.description("재연결 시 버퍼에서 다시 보낸 알림 수")
+			.register(meterRegistry);
+		this.resyncCounter = Counter.builder("sse.resync")
+			.description("버퍼로 복구하지 못해 목록 재조회를 요청한 재연결 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 알림에 이벤트 ID 를 붙여 버퍼에 보관하고 전송
+	 * (재연결 처리와 같은 락 안에서 전송하여, 재전송과 새 알림의 순서가 섞이지 않도록 한다)
+	 */
+	public void publish(String memberKey, Object data, Consumer<Entry> deliver) {
+		MemberEvents events = buffers.get(memberKey, key -> new MemberEvents(sequence.get()));
+		synchronized (events) {
+			long seq = sequence.incrementAndGet();
+			Entry entry = new Entry(nodeId + ":" + seq, seq, data);
+			events.append(entry);
+			deliver.accept(entry);
+		}
+	}
+
+	/**
+	 * 연결을 등록하고 Last-Event-ID 이후의 알림을 재전송
+	 * 등록과 재전송 사이에 전송된 알림이 중복되거나 빠지지 않도록 publish 와 같은 락 안에서 처리한다
+	 */
+	public void subscribe(String memberKey, String lastEventId, Runnable register, SseConnection connection) {
+		MemberEvents events = buffers.get(memberKey, key -> new MemberEvents(sequence.get()));
+		synchronized (events) {
+			register.run();
+			if (lastEventId == null || lastEventId.isBlank()) {
+				return;
+			}
+
+			long lastSeq = parseSequence(lastEventId);
+			if (lastSeq < 0 || !events.replayable(lastSeq)) {
+				resyncCounter.increment();
+				connection.sendMessage(RESYNC_EVENT, lastEventId);
+				return;
+			}
+			for (Entry entry : events.entries) {
+				if (entry.sequence() > lastSeq) {
+					connection.sendMessage("message", entry.id(), entry.data());
+					replayedCounter.increment();
+				}
+			}
+		}
+	}
+
+	/**
+	 * 이 노드에서 발급한 ID 의 순번 (다른 노드 / 잘못된 ID 는 -1)
+	 */
+	private long parseSequence(String eventId) {
+		int separator = eventId.lastIndexOf(':');
+		if (separator < 0 || !eventId.substring(0, separator).equals(nodeId)) {
+			return -1;
+		}
+		try {
+			return Long.parseLong(eventId.substring(separator + 1));
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	public record Entry(String id, long sequence, Object data) {
+	}
+
+	/**
+	 * 멤버 한 명의 최근 알림 (MemberEvents 에 대한 락 안에서만 접근)
+	 */
+	private class MemberEvents {
+		private final Deque<Entry> entries = new ArrayDeque<>();
+
+		// 이 순번까지의 알림은 버퍼에 없다 (생성 이전이거나 밀려남)
+		private long missingUpTo;
+
+		private MemberEvents(long createdAt) {
+			this.missingUpTo = createdAt;
+		}
+
+		private void append(Entry entry) {
+			if (entries.size() >= capacity) {
+				missingUpTo = entries.pollFirst().sequence();
+			}
+			entries.addLast(entry);
+		}
+
+		private boolean replayable(long lastSeq) {
+			return lastSeq >= missingUpTo;
+		}
+	}
+}
@@ -0,0 +1,41 @@
+package com.example.backend.content.notification.writer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.entity.NotificationRepository;
+
+/**
+ * 알림 ID 할당기
+ * DB 의 ID 블록 테이블(notification_id_block) 에서 blockSize 개의 ID 블록을 한 번에 할당받아,
+ * 블록 안에서는 DB 를 거치지 않고 ID 를 발급합니다.
+ * 블록은 행 잠금으로 노드 간에 순서대로 할당되고 마지막으로 할당한 ID 가 DB 에 남으므로, 여러 노드에서도 ID 가 겹치지 않습니다.
+ * JDBC 배치 저장(NotificationWriteBuffer) 과 JPA 저장(NotificationIdListener) 이 모두 이 할당기의 ID 를 사용합니다.
+ * 재시작 시 사용하지 않은 블록의 ID 는 건너뜁니다.
+ */
+@Component
+public class NotificationIdAllocator {
+
+	private final NotificationRepository notificationRepository;
+	private final int blockSize;
+
+	// 현재 블록에서 다음에 발급할 ID 와 블록의 마지막 ID (this 에 대한 락 안에서만 접근)
+	private long next = 1;
+	private long end = 0;
+
+	public NotificationIdAllocator(
+		NotificationRepository notificationRepository,
+		@Value("${custom.notification.write.idBlockSize:1000}") int blockSize
+	) {
+		this.notificationRepository = notificationRepository;
+		this.blockSize = blockSize;
+	}
+
+	public synchronized long nextId() {
+		if (next > end) {
+			end = notificationRepository.allocateIdBlock(blockSize);
+			next = end - blockSize + 1;
+		}
+		return next++;
+	}
+}
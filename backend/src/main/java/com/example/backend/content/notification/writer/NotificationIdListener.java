@@ -0,0 +1,25 @@
+package com.example.backend.content.notification.writer;
+
+import org.springframework.beans.factory.ObjectProvider;
+
+import com.example.backend.entity.NotificationEntity;
+
+import jakarta.persistence.PrePersist;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * JPA 로 저장하는 알림에도 NotificationIdAllocator 의 ID 를 할당하는 엔티티 리스너
+ * 할당기는 리포지토리를 사용하므로 EntityManagerFactory 생성 중에 만들지 않도록 처음 저장할 때 가져온다
+ */
+@RequiredArgsConstructor
+public class NotificationIdListener {
+
+	private final ObjectProvider<NotificationIdAllocator> notificationIdAllocator;
+
+	@PrePersist
+	public void assignId(NotificationEntity notification) {
+		if (notification.getId() == null) {
+			notification.assignId(notificationIdAllocator.getObject().nextId());
+		}
+	}
+}
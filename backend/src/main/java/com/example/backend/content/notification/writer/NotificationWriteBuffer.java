@@ -0,0 +1,187 @@
+package com.example.backend.content.notification.writer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.content.notification.type.NotificationType;
+import com.example.backend.entity.NotificationEntity;
+import com.example.backend.entity.NotificationRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 알림 쓰기 버퍼 (write-behind)
+ * 알림에 NotificationIdAllocator 로 ID 를 바로 할당하여 SSE 전송은 기다리지 않고, 저장은 flushDelayMs 마다 또는
+ * batchSize 개가 쌓이면 JDBC 배치로 한 번에 처리합니다.
+ *
+ * 유실 범위 (의도한 설계) : 종료 시에는 남은 알림을 모두 저장하며, 비정상 종료 시에는 아직 저장하지 않은 알림 (최대 maxPending 개,
+ * 정상 상태에서는 flushDelayMs 동안 쌓인 알림) 이 유실됩니다. 전송된 알림은 목록에서 보이지 않게 될 뿐이며 다시 만들지 않습니다.
+ * 배치 저장이 MAX_RETRY_COUNT 번 실패하면 한 건씩 저장하고, 그래도 실패한 알림은 로그와 notification.write.dropped 로 남깁니다.
+ */
+@Slf4j
+@Component
+public class NotificationWriteBuffer {
+
+	private static final int MAX_RETRY_COUNT = 3;
+
+	private final NotificationRepository notificationRepository;
+	private final NotificationIdAllocator notificationIdAllocator;
+	private final int batchSize;
+
+	private final BlockingQueue<NotificationEntity> pending;
+	// 한 번에 하나의 스레드만 저장
+	private final ReentrantLock flushLock = new ReentrantLock();
+
+	private final DistributionSummary batchSummary;
+	private final Counter droppedCounter;
+
+	public NotificationWriteBuffer(
+		NotificationRepository notificationRepository,
+		NotificationIdAllocator notificationIdAllocator,
+		MeterRegistry meterRegistry,
+		@Value("${custom.notification.write.batchSize:200}") int batchSize,
+		@Value("${custom.notification.write.maxPending:10000}") int maxPending
+	) {
+		this.notificationRepository = notificationRepository;
+		this.notificationIdAllocator = notificationIdAllocator;
+		this.batchSize = batchSize;
+		this.pending = new LinkedBlockingQueue<>(maxPending);
+
+		this.batchSummary = DistributionSummary.builder("notification.write.batch")
+			.description("한 번에 저장한 알림 수")
+			.register(meterRegistry);
+		this.droppedCounter = Counter.builder("notification.write.dropped")
+			.description("저장에 실패하여 버려진 알림 수")
+			.register(meterRegistry);
+		Gauge.builder("notification.write.pending", pending, BlockingQueue::size)
+			.description("저장 대기 중인 알림 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 알림에 ID 를 할당하고 저장 대기열에 추가 (반환된 알림은 바로 전송할 수 있다)
+	 * 대기열이 가득 차면 호출한 스레드에서 먼저 저장한다
+	 */
+	public NotificationEntity add(NotificationEntity notification) {
+		notification.assignPending(notificationIdAllocator.nextId(), LocalDateTime.now());
+
+		while (!pending.offer(notification)) {
+			flush();
+		}
+		if (pending.size() >= batchSize && flushLock.tryLock()) {
+			try {
+				flushPending();
+			} finally {
+				flushLock.unlock();
+			}
+		}
+		return notification;
+	}
+
+	/**
+	 * 저장 대기 중인 알림이면 읽음 처리하여 읽음 상태로 저장되도록 한다
+	 * 저장 중인 배치가 없도록 flush 와 같은 잠금 안에서 확인하므로, false 이면 이미 DB 에 저장된 알림이다
+	 * @return 저장 대기 중인 알림이었으면 true
+	 */
+	public boolean markReadPending(Long notificationId, Long memberId) {
+		flushLock.lock();
+		try {
+			for (NotificationEntity notification : pending) {
+				if (notification.getId().equals(notificationId) && notification.getMemberId().equals(memberId)) {
+					notification.markRead();
+					return true;
+				}
+			}
+			return false;
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	/**
+	 * 저장 대기 중인 같은 리소스의 읽지 않은 좋아요 알림이 있으면 새로 좋아요 한 멤버를 합친다
+	 * markReadPending 과 같이 flush 잠금 안에서 확인하므로, null 이면 대기 중인 알림이 없거나 이미 DB 에 저장된 알림이다
+	 * @param messageOf 합쳐진 전체 멤버 수로 알림 메시지 생성
+	 * @return 합쳐진 알림 (대기 중인 알림이 없으면 null)
+	 */
+	public NotificationEntity mergeLikePending(
+		Long memberId, Long targetId, String targetType, int actorCount, IntFunction<String> messageOf
+	) {
+		flushLock.lock();
+		try {
+			for (NotificationEntity notification : pending) {
+				if (notification.getType() == NotificationType.LIKE && !notification.isRead()
+					&& notification.getMemberId().equals(memberId)
+					&& notification.getTargetId().equals(targetId)
+					&& targetType.equals(notification.getTargetType())) {
+					notification.mergeActors(messageOf.apply(notification.getActorCount() + actorCount), actorCount);
+					return notification;
+				}
+			}
+			return null;
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${custom.notification.write.flushDelayMs:200}")
+	public void flush() {
+		flushLock.lock();
+		try {
+			flushPending();
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		flush();
+	}
+
+	private void flushPending() {
+		List<NotificationEntity> batch = new ArrayList<>(batchSize);
+		while (pending.drainTo(batch, batchSize) > 0) {
+			insert(batch);
+			batch.clear();
+		}
+	}
+
+	private void insert(List<NotificationEntity> batch) {
+		for (int attempt = 1; attempt <= MAX_RETRY_COUNT; attempt++) {
+			try {
+				notificationRepository.bulkInsertNotifications(batch);
+				batchSummary.record(batch.size());
+				return;
+			} catch (Exception e) {
+				log.warn("알림 배치 저장 실패 ({}/{}): {}", attempt, MAX_RETRY_COUNT, e.getMessage());
+			}
+		}
+
+		// 일부 알림 때문에 배치 전체가 실패하는 경우를 위해 한 건씩 저장
+		for (NotificationEntity notification : batch) {
+			try {
+				notificationRepository.bulkInsertNotifications(List.of(notification));
+			} catch (Exception e) {
+				droppedCounter.increment();
+				log.error("알림 저장 실패 - id: {}, memberId: {}, type: {}, content: {}",
+					notification.getId(), notification.getMemberId(), notification.getType(),
+					notification.getContent(), e);
+			}
+		}
+	}
+}
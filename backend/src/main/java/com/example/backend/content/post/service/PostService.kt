@@ -15,6 +15,10 @@ import com.example.backend.content.post.exception.PostException
 import com.example.backend.entity.MemberRepository
 import com.example.backend.entity.PostEntity
 import com.example.backend.entity.PostRepository
+import com.example.backend.social.feed.implement.HomeTimelineStore
+import com.example.backend.social.feed.implement.PostFragmentCache
+import com.example.backend.social.feed.implement.PostPopularityScorer
+import com.example.backend.social.reaction.like.util.component.ResourceResolver
 import org.springframework.security.core.userdetails.UsernameNotFoundException
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
@@ -25,7 +29,11 @@ open class PostService(
 	private val memberRepository: MemberRepository,
 	private val hashtagExtractor: HashtagExtractor,
 	private val postHashtagService: PostHashtagService,
-	private val imageService: ImageService
+	private val imageService: ImageService,
+	private val homeTimelineStore: HomeTimelineStore,
+	private val postPopularityScorer: PostPopularityScorer,
+	private val postFragmentCache: PostFragmentCache,
+	private val resourceResolver: ResourceResolver
 ) {
 
 	/**
@@ -52,6 +60,12 @@ open class PostService(
 		val extractHashtags = hashtagExtractor.extractHashtag(savedPost.getContent())
 		postHashtagService.create(savedPost, extractHashtags)
 
+		// 추천 정렬용 인기 점수 초기화
+		postPopularityScorer.initialize(savedPost)
+
+		// 팔로워들의 홈 타임라인에 게시물 push
+		homeTimelineStore.fanOut(savedPost)
+
 		// 응답 생성
 		return PostCreateResponse(
 			id = savedPost.getId(),
@@ -96,6 +110,11 @@ open class PostService(
 		// Soft Delete
 		postEntity.deleteContent()
 
+		// 팔로워들의 홈 타임라인에서 게시물 제거
+		homeTimelineStore.retract(postEntity)
+		postFragmentCache.evict(postId)
+		resourceResolver.evictPost(postId)
+
 		return PostConverter.toDeleteResponse(postId)
 	}
 }
@@ -13,6 +13,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -20,7 +21,9 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "likes")
+// 멤버당 리소스 하나에 좋아요 행 하나 (좋아요 동기화 upsert 의 기준 키)
+@Table(name = "likes", uniqueConstraints = @UniqueConstraint(
+	name = "uk_likes_member_resource", columnNames = {"member_id", "resource_type", "resource_id"}))
 public class LikeEntity {
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,8 +1,12 @@
 package com.example.backend.entity;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MemberRepository extends JpaRepository<MemberEntity, Long> {
 	Optional<MemberEntity> findByUsername(String username);
@@ -12,4 +16,22 @@ public interface MemberRepository extends JpaRepository<MemberEntity, Long> {
 	Optional<MemberEntity> findByEmail(String email);
 
 	Optional<MemberEntity> findByPhoneNumber(String phoneNumber);
+
+	// 팔로워 username 목록을 id 목록으로 변환 (타임라인 fan-out 용)
+	@Query("SELECT m.id FROM MemberEntity m WHERE m.username IN :usernames")
+	List<Long> findIdsByUsernameIn(@Param("usernames") Collection<String> usernames);
+
+	// 멤버가 팔로우하는 멤버 id 목록 (팔로잉 username 을 애플리케이션으로 가져오지 않고 조회)
+	@Query("""
+		SELECT following.id FROM MemberEntity m JOIN m.followingList f, MemberEntity following
+		WHERE m.id = :memberId AND following.username = f
+		""")
+	List<Long> findFollowingIdsByMemberId(@Param("memberId") Long memberId);
+
+	// 작성자들의 팔로워 id 목록 (팔로워 username 을 애플리케이션으로 가져오지 않고 조회)
+	@Query("""
+		SELECT DISTINCT follower.id FROM MemberEntity m JOIN m.followerList f, MemberEntity follower
+		WHERE m.username IN :usernames AND follower.username = f
+		""")
+	List<Long> findFollowerIdsByUsernameIn(@Param("usernames") Collection<String> usernames);
 }
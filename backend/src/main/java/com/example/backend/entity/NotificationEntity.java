@@ -1,15 +1,25 @@
 package com.example.backend.entity;
 
+import java.time.LocalDateTime;
+
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
 import com.example.backend.content.notification.type.NotificationType;
+import com.example.backend.content.notification.writer.NotificationIdListener;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
+import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
@@ -18,8 +28,21 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+@EntityListeners({AuditingEntityListener.class, NotificationIdListener.class})
 @Table(name = "notification")
-public class NotificationEntity extends BaseEntity {
+public class NotificationEntity {
+	// JDBC 배치 저장과 JPA 저장이 같은 ID 를 쓰도록 IDENTITY 대신 NotificationIdAllocator 가 할당한다
+	@Id
+	@EqualsAndHashCode.Include
+	private Long id;
+
+	@CreatedDate
+	private LocalDateTime createDate;
+
+	@LastModifiedDate
+	private LocalDateTime modifyDate;
+
 	@Column(nullable = false)
 	private String content;
 
@@ -36,10 +59,42 @@ public class NotificationEntity extends BaseEntity {
 	// LIKE -> postId, Comment -> commentId, Follow -> followId
 	private Long targetId;
 
+	// LIKE 알림의 리소스 타입 (POST, COMMENT, REPLY) - 게시물과 댓글 ID 가 겹칠 수 있어 함께 저장
+	private String targetType;
+
+	// 하나의 알림으로 묶인 행위자 수 (LIKE 알림은 같은 리소스의 좋아요를 모아서 보낸다)
+	@Column(nullable = false)
+	@Builder.Default
+	private int actorCount = 1;
+
 	public void markRead() {
 		this.isRead = true;
 	}
 
+	/**
+	 * 읽지 않은 좋아요 알림에 새로 좋아요 한 멤버를 합친다
+	 */
+	public void mergeActors(String message, int addedCount) {
+		this.content = message;
+		this.actorCount += addedCount;
+	}
+
+	/**
+	 * 미리 할당받은 ID 와 생성 시간 지정 (NotificationWriteBuffer 에서 JDBC 배치로 저장)
+	 */
+	public void assignPending(Long id, LocalDateTime now) {
+		this.id = id;
+		this.createDate = now;
+		this.modifyDate = now;
+	}
+
+	/**
+	 * JPA 로 저장할 때 할당받은 ID 지정 (NotificationIdListener)
+	 */
+	public void assignId(Long id) {
+		this.id = id;
+	}
+
 	public static NotificationEntity create(
 		String message, Long memberId, NotificationType type, Long targetId
 	) {
@@ -51,6 +106,19 @@ public class NotificationEntity extends BaseEntity {
 			.build();
 	}
 
+	public static NotificationEntity createLike(
+		String message, Long memberId, Long targetId, String targetType, int actorCount
+	) {
+		return NotificationEntity.builder()
+			.content(message)
+			.memberId(memberId)
+			.type(NotificationType.LIKE)
+			.targetId(targetId)
+			.targetType(targetType)
+			.actorCount(actorCount)
+			.build();
+	}
+
 	public String getContent() {
 		return content;
 	}
@@ -70,4 +138,12 @@ public class NotificationEntity extends BaseEntity {
 	public Long getTargetId() {
 		return targetId;
 	}
+
+	public String getTargetType() {
+		return targetType;
+	}
+
+	public int getActorCount() {
+		return actorCount;
+	}
 }
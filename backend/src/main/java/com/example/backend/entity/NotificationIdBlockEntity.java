@@ -0,0 +1,25 @@
+package com.example.backend.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 알림 ID 블록 할당 상태
+ * NotificationIdAllocator 가 마지막으로 할당한 알림 ID 를 저장하며, 갱신은 NotificationRepositoryCustomImpl 에서 JDBC 로 처리한다
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "notification_id_block")
+public class NotificationIdBlockEntity {
+	@Id
+	private String name;
+
+	@Column(nullable = false)
+	private Long lastId;
+}
@@ -9,10 +9,24 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-public interface NotificationRepository extends JpaRepository<NotificationEntity, Long> {
+public interface NotificationRepository extends JpaRepository<NotificationEntity, Long>, NotificationRepositoryCustom {
 	// 단일 알림 조회
 	Optional<NotificationEntity> findByIdAndMemberId(Long id, Long memberId);
 
+	// 같은 리소스의 읽지 않은 좋아요 알림 조회 (좋아요 알림 묶음 갱신용)
+	@Query("""
+		SELECT n FROM NotificationEntity n
+		WHERE n.memberId = :memberId
+		AND n.type = com.example.backend.content.notification.type.NotificationType.LIKE
+		AND n.targetId = :targetId
+		AND n.targetType = :targetType
+		AND n.isRead = false
+		ORDER BY n.id DESC
+		LIMIT 1
+		""")
+	Optional<NotificationEntity> findUnreadLike(
+		@Param("memberId") Long memberId, @Param("targetId") Long targetId, @Param("targetType") String targetType);
+
 	// 추후 인덱스 고려
 	@Query("""
 		SELECT n FROM NotificationEntity n
@@ -0,0 +1,9 @@
+package com.example.backend.entity;
+
+import java.util.List;
+
+public interface NotificationRepositoryCustom {
+	int bulkInsertNotifications(List<NotificationEntity> notifications);
+
+	long allocateIdBlock(int blockSize);
+}
@@ -0,0 +1,86 @@
+package com.example.backend.entity;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationRepositoryCustomImpl implements NotificationRepositoryCustom {
+	private final JdbcTemplate jdbcTemplate;
+
+	private static final int INSERT_BATCH_SIZE = 500;
+	private static final String ID_BLOCK_NAME = "notification";
+
+	private static final String INSERT_SQL = """
+		INSERT INTO notification (id, content, member_id, type, is_read, target_id, target_type, actor_count,
+			create_date, modify_date)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+		""";
+
+	// 마지막으로 할당한 ID 와 저장된 최대 ID 중 큰 값 다음부터 할당 (블록 테이블이 초기화된 경우에도 겹치지 않도록)
+	private static final String ALLOCATE_ID_BLOCK_SQL = """
+		UPDATE notification_id_block
+		SET last_id = GREATEST(last_id, (SELECT COALESCE(MAX(id), 0) FROM notification)) + ?
+		WHERE name = ?
+		""";
+
+	/**
+	 * ID 가 미리 할당된 알림을 JDBC 배치로 일괄 삽입 (NotificationWriteBuffer 에서 사용)
+	 * 실패한 배치를 다시 저장할 수 있도록 배치 전체를 하나의 트랜잭션으로 처리합니다.
+	 * 호출한 쪽의 트랜잭션(maxPending 초과 시 호출한 스레드에서의 flush) 과 분리하여 커밋하므로, 호출한 쪽이 롤백되어도 꺼낸 알림이 유실되지 않습니다.
+	 */
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public int bulkInsertNotifications(List<NotificationEntity> notifications) {
+		if (notifications.isEmpty()) {
+			return 0;
+		}
+
+		jdbcTemplate.batchUpdate(INSERT_SQL, notifications, INSERT_BATCH_SIZE, (ps, notification) -> {
+			ps.setLong(1, notification.getId());
+			ps.setString(2, notification.getContent());
+			ps.setLong(3, notification.getMemberId());
+			ps.setString(4, notification.getType().name());
+			ps.setBoolean(5, notification.isRead());
+			if (notification.getTargetId() != null) {
+				ps.setLong(6, notification.getTargetId());
+			} else {
+				ps.setNull(6, Types.BIGINT);
+			}
+			ps.setString(7, notification.getTargetType());
+			ps.setInt(8, notification.getActorCount());
+			ps.setTimestamp(9, Timestamp.valueOf(notification.getCreateDate()));
+			ps.setTimestamp(10, Timestamp.valueOf(notification.getModifyDate()));
+		});
+
+		return notifications.size();
+	}
+
+	/**
+	 * 알림 ID 블록을 할당하고 블록의 마지막 ID 를 반환 (NotificationIdAllocator 에서 사용)
+	 * 블록 행을 갱신하면서 잠그므로 여러 노드의 할당이 순서대로 처리되며, 호출한 쪽의 트랜잭션과 분리하여 바로 커밋합니다.
+	 */
+	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public long allocateIdBlock(int blockSize) {
+		if (jdbcTemplate.update(ALLOCATE_ID_BLOCK_SQL, blockSize, ID_BLOCK_NAME) == 0) {
+			try {
+				jdbcTemplate.update("INSERT INTO notification_id_block (name, last_id) VALUES (?, 0)", ID_BLOCK_NAME);
+			} catch (DuplicateKeyException e) {
+				// 다른 노드가 먼저 만든 경우
+			}
+			jdbcTemplate.update(ALLOCATE_ID_BLOCK_SQL, blockSize, ID_BLOCK_NAME);
+		}
+		return jdbcTemplate.queryForObject(
+			"SELECT last_id FROM notification_id_block WHERE name = ?", Long.class, ID_BLOCK_NAME);
+	}
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.Lob;
 import jakarta.persistence.ManyToOne;
@@ -24,7 +25,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PROTECTED)
 @Builder
-@Table(name = "post")
+@Table(name = "post", indexes = @Index(name = "idx_post_popularity_score", columnList = "popularity_score, create_date"))
 public class PostEntity extends BaseEntity {
 
 	@Lob
@@ -47,6 +48,14 @@ public class PostEntity extends BaseEntity {
 	@Builder.Default
 	private Long likeCount = 0L; // 좋아요 초기 카운트 0 설정
 
+	@Column(nullable = false)
+	@Builder.Default
+	private Long commentCount = 0L; // 댓글 수 (댓글 생성/삭제 시 증감, CommentCountReconciler 로 보정)
+
+	@Column(name = "popularity_score", nullable = false)
+	@Builder.Default
+	private Double popularityScore = 0.0; // 추천 정렬용 인기 점수 (좋아요, 댓글, 인기 해시태그 반영 후 시간 감쇠)
+
 	@OneToMany(mappedBy = "post", cascade = CascadeType.ALL, orphanRemoval = true)
 	private List<CommentEntity> comments;
 
@@ -127,6 +136,24 @@ public class PostEntity extends BaseEntity {
 		return likeCount;
 	}
 
+	public Long getCommentCount() {
+		return commentCount;
+	}
+
+	public Double getPopularityScore() {
+		return popularityScore;
+	}
+
+	/**
+	 * 인기 점수 초기값 설정 메소드
+	 * 게시물 생성 직후 작성자 팔로워 수 / 인기 해시태그 여부로 계산한 점수를 반영
+	 *
+	 * @param popularityScore 초기 인기 점수
+	 */
+	public void initPopularityScore(double popularityScore) {
+		this.popularityScore = popularityScore;
+	}
+
 	public List<CommentEntity> getComments() {
 		return comments;
 	}
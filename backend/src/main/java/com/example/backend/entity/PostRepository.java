@@ -1,7 +1,9 @@
 package com.example.backend.entity;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -25,4 +27,43 @@ public interface PostRepository extends JpaRepository<PostEntity, Long> {
 	@Modifying(clearAutomatically = true)
 	@Query("UPDATE PostEntity post SET post.likeCount = post.likeCount - 1 WHERE post.id = :postId AND post.likeCount > 0")
 	void decrementLikeCount(@Param("postId") Long postId);
+
+	/**
+	 * 댓글 수 증가
+	 * 댓글 생성 시 게시물의 댓글 수를 1 증가시킴
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE PostEntity post SET post.commentCount = post.commentCount + 1 WHERE post.id = :postId")
+	void incrementCommentCount(@Param("postId") Long postId);
+
+	/**
+	 * 댓글 수 감소
+	 * 댓글 삭제 시 게시물의 댓글 수를 1 감소시킴
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("UPDATE PostEntity post SET post.commentCount = post.commentCount - 1 "
+		+ "WHERE post.id = :postId AND post.commentCount > 0")
+	void decrementCommentCount(@Param("postId") Long postId);
+
+	/**
+	 * 인기 점수 증감
+	 * 좋아요 / 댓글 발생 시 추천 정렬용 인기 점수를 delta 만큼 변경 (0 미만으로 내려가지 않도록 보정)
+	 * 감쇠된 점수에서 취소분을 빼는 오차는 FeedScheduler 가 매 시간 다시 계산하여 보정한다
+	 */
+	@Modifying(flushAutomatically = true)
+	@Query("""
+		UPDATE PostEntity post
+		SET post.popularityScore = CASE WHEN post.popularityScore + :delta > 0
+			THEN post.popularityScore + :delta ELSE 0.0 END
+		WHERE post.id = :postId
+		""")
+	void addPopularityScore(@Param("postId") Long postId, @Param("delta") double delta);
+
+	/**
+	 * 작성자의 최근 게시물 ID 목록
+	 * 팔로우/언팔로우 시 타임라인 backfill / prune 에 사용
+	 */
+	@Query("SELECT post.id FROM PostEntity post WHERE post.member.id = :memberId AND post.isDeleted = false "
+		+ "ORDER BY post.id DESC")
+	List<Long> findRecentIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
 }
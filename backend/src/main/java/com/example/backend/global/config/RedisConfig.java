@@ -6,6 +6,7 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -25,6 +26,14 @@ public class RedisConfig {
 		return new StringRedisTemplate(connectionFactory);
 	}
 
+	// 노드 간 SSE 알림 전달 (RedisNotificationBackplane) 채널 구독용
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		return container;
+	}
+
 	@Bean
 	public RedisTemplate<String, LikeInfo> likeInfoRedisTemplate(RedisConnectionFactory connectionFactory) {
 		RedisTemplate<String, LikeInfo> template = new RedisTemplate<>();
@@ -6,8 +6,11 @@ import com.example.backend.identity.security.config.handler.OAuth2FailureHandler
 import com.example.backend.identity.security.config.handler.OAuth2SuccessHandler
 import com.example.backend.identity.security.jwt.JwtAuthenticationFilter
 import com.example.backend.identity.security.oauth.service.CustomOAuth2UserService
+import org.springframework.beans.factory.annotation.Value
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest
 import org.springframework.context.annotation.Bean
 import org.springframework.context.annotation.Configuration
+import org.springframework.security.authorization.AuthorizationDecision
 import org.springframework.security.config.annotation.web.builders.HttpSecurity
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity
 import org.springframework.security.config.http.SessionCreationPolicy
@@ -35,7 +38,8 @@ open class SecurityConfig(
     private val accessDeniedHandler: CustomAccessDeniedHandler,
     private val oAuth2UserService: CustomOAuth2UserService,
     private val authenticationSuccessHandler: OAuth2SuccessHandler,
-    private val authenticationFailureHandler: OAuth2FailureHandler
+    private val authenticationFailureHandler: OAuth2FailureHandler,
+    @Value("\${management.server.port:-1}") private val managementPort: Int
 ) {
 
     @Bean
@@ -72,6 +76,9 @@ open class SecurityConfig(
                     .requestMatchers("/error", "/favicon.ico").permitAll() // 프론트엔드에서 적용될 예외 포인트 설정
                     .requestMatchers("/api-v1/members/login", "/api-v1/members/join", "/api-v1/members/logout").permitAll() // 로그인 & 회원가입 허용
                     .requestMatchers(*SpringDocConfig.SWAGGER_PATHS).permitAll() // Swagger 문서 접근 허용
+                    .requestMatchers(EndpointRequest.to("health")).permitAll() // 헬스 체크 허용
+                    .requestMatchers(EndpointRequest.to("prometheus"))
+                    .access { _, context -> AuthorizationDecision(context.request.localPort == managementPort) } // 지표 수집은 내부 관리 포트에서만 허용
                     .anyRequest().authenticated() // 그 외 요청은 인증 필요
             }
 
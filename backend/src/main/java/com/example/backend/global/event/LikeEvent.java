@@ -11,14 +11,22 @@ public record LikeEvent(
 	Long resourceOwnerId,
 	Long resourceId,
 	String resourceType,
+	boolean liked,
 	LocalDateTime timestamp
 ) {
 	public static LikeEvent create(String likerName, Long resourceOwnerId, Long resourceId, String resourceType) {
+		return create(likerName, resourceOwnerId, resourceId, resourceType, true);
+	}
+
+	// liked : 토글 이후 좋아요 상태 (false 이면 좋아요 취소)
+	public static LikeEvent create(
+		String likerName, Long resourceOwnerId, Long resourceId, String resourceType, boolean liked) {
 		return new LikeEvent(
 			likerName,
 			resourceOwnerId,
 			resourceId,
 			resourceType,
+			liked,
 			LocalDateTime.now()
 		);
 	}
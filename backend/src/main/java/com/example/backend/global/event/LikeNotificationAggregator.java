@@ -0,0 +1,200 @@
+package com.example.backend.global.event;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.content.notification.service.NotificationService;
+import com.example.backend.entity.NotificationEntity;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좋아요 알림 묶음 처리
+ * 좋아요 이벤트를 (리소스 작성자, 리소스) 단위로 windowMs 동안 모았다가 하나의 알림으로 저장 / 전송합니다.
+ * 같은 창 안에서 좋아요 후 취소한 멤버는 알림에서 제외하며,
+ * 같은 리소스의 읽지 않은 좋아요 알림이 있으면 새 알림을 만들지 않고 해당 알림을 갱신합니다.
+ * 알림 저장에 실패한 창은 다시 넣어 다음 flush 에서 최대 MAX_RETRY_COUNT 번까지 저장을 시도하며,
+ * 종료 시에는 열려 있는 창을 모두 저장합니다.
+ */
+@Slf4j
+@Component
+public class LikeNotificationAggregator {
+
+	// 알림 메시지에 이름을 표시할 최대 멤버 수
+	private static final int MAX_NAMED_LIKERS = 2;
+	private static final int MAX_RETRY_COUNT = 3;
+
+	private final NotificationService notificationService;
+	private final long windowMs;
+
+	private final Map<Target, Window> windows = new ConcurrentHashMap<>();
+
+	public LikeNotificationAggregator(
+		NotificationService notificationService,
+		@Value("${custom.notification.like.windowMs:3000}") long windowMs
+	) {
+		this.notificationService = notificationService;
+		this.windowMs = windowMs;
+	}
+
+	/**
+	 * 좋아요 이벤트를 리소스의 알림 창에 추가
+	 * 좋아요 취소는 같은 창 안의 좋아요만 지우며, 이미 보낸 알림에는 반영하지 않습니다.
+	 */
+	public void add(LikeEvent likeEvent) {
+		Target target = new Target(likeEvent.resourceOwnerId(), likeEvent.resourceId(), likeEvent.resourceType());
+		windows.compute(target, (key, window) -> {
+			if (window == null) {
+				if (!likeEvent.liked()) {
+					return null;
+				}
+				window = new Window(System.currentTimeMillis());
+			}
+			window.apply(likeEvent.likerName(), likeEvent.liked());
+			return window;
+		});
+	}
+
+	/**
+	 * windowMs 가 지난 알림 창을 하나의 알림으로 저장 후 전송
+	 */
+	@Scheduled(fixedDelayString = "${custom.notification.like.flushDelayMs:1000}")
+	public void flush() {
+		flush(System.currentTimeMillis());
+	}
+
+	/**
+	 * 종료 시 windowMs 가 지나지 않은 창까지 모두 저장 (실패한 창은 MAX_RETRY_COUNT 번까지 바로 다시 시도)
+	 */
+	@PreDestroy
+	public void shutdown() {
+		for (int attempt = 0; attempt < MAX_RETRY_COUNT && !windows.isEmpty(); attempt++) {
+			flush(Long.MAX_VALUE);
+		}
+	}
+
+	private void flush(long now) {
+		for (Target target : windows.keySet()) {
+			List<Window> closed = new ArrayList<>(1);
+			windows.computeIfPresent(target, (key, window) -> {
+				if (now - window.openedAt < windowMs) {
+					return window;
+				}
+				closed.add(window);
+				return null;
+			});
+			if (closed.isEmpty() || closed.get(0).likers.isEmpty()) {
+				continue;
+			}
+
+			Window window = closed.get(0);
+			NotificationEntity notification;
+			try {
+				notification = save(target, window);
+			} catch (Exception e) {
+				requeue(target, window, e);
+				continue;
+			}
+
+			// 전송 실패는 다시 시도하지 않는다 (이미 저장된 알림을 다시 합치지 않도록)
+			try {
+				notificationService.sendNotification(target.ownerId(), notification);
+			} catch (Exception e) {
+				log.error("좋아요 알림 전송 중 에러 발생: {}", e.getMessage(), e);
+			}
+		}
+	}
+
+	private NotificationEntity save(Target target, Window window) {
+		// 최근에 좋아요 한 멤버부터 표시
+		List<String> likers = new ArrayList<>(window.likers);
+		List<String> named = likers.reversed().subList(0, Math.min(MAX_NAMED_LIKERS, likers.size()));
+		String resourceName = getResourceName(target.resourceType());
+
+		return notificationService.mergeLikeNotification(
+			target.ownerId(),
+			target.resourceId(),
+			target.resourceType(),
+			likers.size(),
+			total -> message(named, total, resourceName));
+	}
+
+	// 저장에 실패한 창을 다시 넣는다 (그 사이 같은 리소스에 열린 창이 있으면 합친다)
+	private void requeue(Target target, Window failed, Exception e) {
+		if (failed.attempts + 1 >= MAX_RETRY_COUNT) {
+			log.error("좋아요 알림 저장 {}회 실패로 버림 - ownerId: {}, resourceId: {}, likers: {}",
+				MAX_RETRY_COUNT, target.ownerId(), target.resourceId(), failed.likers, e);
+			return;
+		}
+
+		log.warn("좋아요 알림 저장 실패 ({}/{}): {}", failed.attempts + 1, MAX_RETRY_COUNT, e.getMessage());
+		windows.compute(target, (key, opened) -> failed.retry(opened));
+	}
+
+	static String message(List<String> named, int total, String resourceName) {
+		String names = String.join("님, ", named);
+		int others = total - named.size();
+		if (others > 0) {
+			return names + "님 외 " + others + "명이 당신의 " + resourceName + "에 좋아요를 눌렀습니다.";
+		}
+		return names + "님이 당신의 " + resourceName + "에 좋아요를 눌렀습니다.";
+	}
+
+	// 리소스 타입에 따른 컨텐츠 이름 반환 메서드
+	private static String getResourceName(String resourceType) {
+		return switch (resourceType.toUpperCase()) {
+			case "POST" -> "게시물";
+			case "COMMENT" -> "댓글";
+			case "REPLY" -> "대댓글";
+			default -> "콘텐츠";
+		};
+	}
+
+	private record Target(Long ownerId, Long resourceId, String resourceType) {
+	}
+
+	/**
+	 * 알림 창 (windows.compute 안에서만 변경된다)
+	 */
+	private static class Window {
+		private final long openedAt;
+		// 저장에 실패한 횟수
+		private final int attempts;
+		// 좋아요 한 순서대로 유지 (마지막이 가장 최근)
+		private final LinkedHashSet<String> likers = new LinkedHashSet<>();
+
+		private Window(long openedAt) {
+			this(openedAt, 0);
+		}
+
+		private Window(long openedAt, int attempts) {
+			this.openedAt = openedAt;
+			this.attempts = attempts;
+		}
+
+		// 실패한 창의 좋아요 뒤에 그 사이 열린 창의 좋아요를 이어 붙인 창 (열린 시간은 그대로 두어 다음 flush 에서 저장)
+		private Window retry(Window opened) {
+			Window retry = new Window(openedAt, attempts + 1);
+			retry.likers.addAll(likers);
+			if (opened != null) {
+				opened.likers.forEach(likerName -> retry.apply(likerName, true));
+			}
+			return retry;
+		}
+
+		private void apply(String likerName, boolean liked) {
+			likers.remove(likerName);
+			if (liked) {
+				likers.add(likerName);
+			}
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package com.example.backend.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class TransactionUtil {
+
+	/**
+	 * 트랜잭션 안에서 호출된 경우 커밋 이후에 실행하고, 트랜잭션 밖이면 바로 실행한다
+	 * 롤백된 경우에는 실행하지 않는다
+	 * @param action 실행할 작업
+	 */
+	public static void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+			return;
+		}
+		action.run();
+	}
+}
@@ -43,4 +43,119 @@ public class FeedConstants {
 	 * 피드 요청 시 최대로 요청할 수 있는 개수
 	 */
 	public static final int REQUEST_FEED_MAX_SIZE = 20;
+
+	/**
+	 * HOME_TIMELINE_CAPACITY
+	 * 멤버별 홈 타임라인(Redis Sorted Set)에 유지하는 최대 게시물 개수
+	 */
+	public static final int HOME_TIMELINE_CAPACITY = 800;
+
+	/**
+	 * HOME_TIMELINE_BACKFILL_SIZE
+	 * 팔로우 시 상대방의 최근 게시물을 타임라인에 채워넣는 개수
+	 */
+	public static final int HOME_TIMELINE_BACKFILL_SIZE = 50;
+
+	/**
+	 * HOME_TIMELINE_TTL_DAYS
+	 * 접근이 없는 타임라인을 만료시키는 기간 (일 단위)
+	 */
+	public static final long HOME_TIMELINE_TTL_DAYS = 7;
+
+	/**
+	 * CELEBRITY_FOLLOWER_THRESHOLD
+	 * 해당 팔로워 수 이상인 작성자의 게시물은 타임라인에 push 하지 않고 조회 시점에 병합한다
+	 */
+	public static final long CELEBRITY_FOLLOWER_THRESHOLD = 10_000L;
+
+	/**
+	 * FOLLOWER_SCORE_WEIGHT
+	 * 인기 점수 계산 시 작성자 팔로워 1명당 가중치
+	 */
+	public static final double FOLLOWER_SCORE_WEIGHT = 2.0;
+
+	/**
+	 * LIKE_SCORE_WEIGHT
+	 * 인기 점수 계산 시 좋아요 1개당 가중치
+	 */
+	public static final double LIKE_SCORE_WEIGHT = 1.0;
+
+	/**
+	 * COMMENT_SCORE_WEIGHT
+	 * 인기 점수 계산 시 댓글 1개당 가중치
+	 */
+	public static final double COMMENT_SCORE_WEIGHT = 1.0;
+
+	/**
+	 * POPULAR_HASHTAG_SCORE
+	 * 인기 해시태그를 포함한 게시물에 부여하는 점수
+	 */
+	public static final double POPULAR_HASHTAG_SCORE = 3.0;
+
+	/**
+	 * POPULARITY_DECAY_RATE
+	 * 매 시간 인기 점수에 곱해지는 감쇠 비율
+	 */
+	public static final double POPULARITY_DECAY_RATE = 0.97;
+
+	/**
+	 * POPULARITY_RECOMPUTE_CHUNK_SIZE
+	 * 인기 점수를 다시 계산할 때 한 번에 조회 / 갱신하는 게시물 개수
+	 */
+	public static final int POPULARITY_RECOMPUTE_CHUNK_SIZE = 1000;
+
+	/**
+	 * POST_FRAGMENT_LOCAL_CACHE_SIZE
+	 * 게시물 조각(해시태그 / 이미지 URL) 로컬 캐시의 최대 게시물 수
+	 */
+	public static final long POST_FRAGMENT_LOCAL_CACHE_SIZE = 10_000L;
+
+	/**
+	 * POST_FRAGMENT_LOCAL_TTL_MINUTES
+	 * 게시물 조각 로컬 캐시의 유지 시간 (분 단위)
+	 */
+	public static final long POST_FRAGMENT_LOCAL_TTL_MINUTES = 5;
+
+	/**
+	 * POST_FRAGMENT_REMOTE_TTL_HOURS
+	 * 게시물 조각 Redis 캐시의 유지 시간 (시간 단위)
+	 */
+	public static final long POST_FRAGMENT_REMOTE_TTL_HOURS = 24;
+
+	/**
+	 * FEED_ASSEMBLY_DEADLINE_MS
+	 * 피드 조회 단계를 병렬로 실행하는 경우 요청 하나에 허용하는 최대 대기 시간 (ms)
+	 */
+	public static final long FEED_ASSEMBLY_DEADLINE_MS = 1_500L;
+
+	/**
+	 * FOLLOW_PREDICATE_MAX_TERMS
+	 * 팔로잉 멤버 ID 를 SQL 조건(범위 / IN)으로 전달할 때 허용하는 최대 항목 수
+	 * 초과하는 경우 추천 피드는 조회 후 메모리에서 걸러낸다
+	 */
+	public static final int FOLLOW_PREDICATE_MAX_TERMS = 256;
+
+	/**
+	 * FOLLOW_POST_FILTER_OVERFETCH
+	 * 추천 후보를 조회 후 걸러내는 경우 추가로 조회하는 배수
+	 */
+	public static final long FOLLOW_POST_FILTER_OVERFETCH = 2L;
+
+	/**
+	 * RECOMMEND_POOL_MAX_SIZE
+	 * 메모리에 보관하는 추천 후보 풀의 최대 크기 (인기 점수 상위)
+	 */
+	public static final int RECOMMEND_POOL_MAX_SIZE = 5_000;
+
+	/**
+	 * RECOMMEND_POOL_BUCKET_HOURS
+	 * 추천 후보 풀을 나누는 생성 시간 구간 크기 (시간 단위)
+	 */
+	public static final long RECOMMEND_POOL_BUCKET_HOURS = 24;
+
+	/**
+	 * FEED_PAGE_CACHE_TTL_SECONDS
+	 * 같은 커서로 요청한 메인 피드 페이지를 캐싱하는 시간 (초 단위)
+	 */
+	public static final long FEED_PAGE_CACHE_TTL_SECONDS = 30;
 }
@@ -1,11 +1,17 @@
 package com.example.backend.social.feed.controller;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -18,12 +24,21 @@ import com.example.backend.social.feed.dto.FeedListResponse;
 import com.example.backend.social.feed.dto.FeedMemberRequest;
 import com.example.backend.social.feed.dto.FeedMemberResponse;
 import com.example.backend.social.feed.dto.FeedRequest;
+import com.example.backend.social.feed.dto.FeedStreamRecord;
+import com.example.backend.social.feed.implement.FeedPageCache;
 import com.example.backend.social.feed.service.FeedService;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * FeedController
@@ -31,6 +46,7 @@ import lombok.RequiredArgsConstructor;
  * @author ChoiHyunSan
  * @since 2025-01-31
  */
+@Slf4j
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/api-v1/feed")
@@ -39,26 +55,93 @@ import lombok.RequiredArgsConstructor;
 public class FeedController {
 
 	private final FeedService feedService;
+	private final FeedPageCache feedPageCache;
+	private final ObjectMapper objectMapper;
 
 	/**
 	 * 팔로잉 게시물과 추천 게시물이 혼합된 피드 리스트 요청
+	 * ETag 는 피드 버전과 커서로 만들며, If-None-Match 가 일치하면 피드를 조회하지 않고 본문 없이 304 를 반환한다.
+	 * 같은 커서로 반복 요청하는 경우 캐싱된 페이지를 반환한다.
 	 * @return 피드 Dto 리스트
 	 */
 	@Operation(
 		summary = "메인 피드 요청",
 		description = "자신 및 팔로잉 게시물과 추천 게시물로 이뤄진 피드를 반환합니다.")
 	@GetMapping
-	@ResponseStatus(HttpStatus.OK)
-	public RsData<FeedListResponse> findFeedList(
+	public ResponseEntity<RsData<FeedListResponse>> findFeedList(
 		@RequestParam(name = "timestamp") LocalDateTime timestamp,
 		@RequestParam(name = "lastPostId") Long lastPostId,
 		@RequestParam(name = "maxSize") Integer maxSize,
+		@RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
 		@AuthenticationPrincipal CustomUser securityUser
 	) {
-		FeedListResponse response = feedService.findList(
-			new FeedRequest(timestamp, lastPostId, maxSize),
-			securityUser.getId());
-		return RsData.success(response, "피드를 성공적으로 반환했습니다.");
+		FeedRequest request = new FeedRequest(timestamp, lastPostId, maxSize);
+		String etag = feedPageCache.getEtag(securityUser.getId(), request);
+		if (FeedPageCache.matches(ifNoneMatch, etag)) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+		}
+
+		FeedListResponse response = feedPageCache.getOrLoad(securityUser.getId(), etag,
+			() -> feedService.findList(request, securityUser.getId()));
+		return ResponseEntity.ok()
+			.eTag(etag)
+			.body(RsData.success(response, "피드를 성공적으로 반환했습니다."));
+	}
+
+	/**
+	 * 메인 피드를 NDJSON 스트림으로 요청
+	 * 팔로잉 게시물을 먼저 한 줄씩 내보낸 뒤 추천 게시물을 이어서 내보내고,
+	 * 마지막 줄에 다음 요청에 사용할 커서 레코드(type = cursor)를 내보낸다.
+	 * 요청 검증은 첫 줄을 쓰기 전에 끝나므로, 잘못된 요청은 일반 엔드포인트와 같은 에러 응답을 받는다.
+	 * 응답을 쓰기 시작한 뒤 실패하면 커서 레코드 대신 에러 레코드(type = error)를 마지막 줄로 내보낸다.
+	 */
+	@Operation(
+		summary = "메인 피드 스트리밍 요청",
+		description = "메인 피드를 조회되는 순서대로 NDJSON 형식으로 반환합니다.")
+	@GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public void streamFeedList(
+		@RequestParam(name = "timestamp") LocalDateTime timestamp,
+		@RequestParam(name = "lastPostId") Long lastPostId,
+		@RequestParam(name = "maxSize") Integer maxSize,
+		@AuthenticationPrincipal CustomUser securityUser,
+		HttpServletResponse response
+	) throws IOException {
+		FeedRequest request = new FeedRequest(timestamp, lastPostId, maxSize);
+		response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+		response.setCharacterEncoding("UTF-8");
+
+		// 첫 줄을 쓰기 전 예외는 응답이 커밋되지 않도록 출력 스트림을 닫지 않고 그대로 전파한다
+		ServletOutputStream out = response.getOutputStream();
+		SequenceWriter writer = objectMapper.writer()
+			.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+			.withRootValueSeparator("\n")
+			.writeValues(out);
+
+		FeedStreamRecord last;
+		try {
+			last = feedService.streamList(request, securityUser.getId(), feed -> {
+				try {
+					writer.write(FeedStreamRecord.feed(feed));
+					writer.flush();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			// 클라이언트 연결이 끊긴 경우 더 쓸 수 없다
+			throw e.getCause();
+		} catch (RuntimeException e) {
+			if (!response.isCommitted()) {
+				throw e;
+			}
+			log.error("피드 스트리밍 중 에러 발생: {}", e.getMessage(), e);
+			last = FeedStreamRecord.error("피드를 모두 불러오지 못했습니다.");
+		}
+
+		writer.write(last);
+		writer.close();
+		out.write('\n');
+		out.flush();
 	}
 
 	/**
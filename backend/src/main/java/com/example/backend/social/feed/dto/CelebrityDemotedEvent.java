@@ -0,0 +1,12 @@
+package com.example.backend.social.feed.dto;
+
+import java.util.Set;
+
+/**
+ * 팔로워 수가 임계치 아래로 내려가 더 이상 celebrity 가 아닌 작성자 목록
+ * 해당 작성자의 게시물은 타임라인에 push 되지 않았으므로 팔로워 타임라인을 다시 구성해야 한다
+ */
+public record CelebrityDemotedEvent(
+	Set<String> usernames
+) {
+}
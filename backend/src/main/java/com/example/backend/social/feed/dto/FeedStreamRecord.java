@@ -0,0 +1,36 @@
+package com.example.backend.social.feed.dto;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 스트리밍 피드 레코드 DTO
+ * NDJSON 스트림의 한 줄에 해당하며, 피드 항목(type = feed) 또는 마지막의 커서 정보(type = cursor)를 담는다.
+ * 피드를 내보내는 도중 실패하면 커서 대신 에러 레코드(type = error)가 마지막 줄이 된다.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record FeedStreamRecord(
+	String type,
+	FeedInfoResponse feed,
+	LocalDateTime lastTimestamp,    // 마지막 피드의 timestamp (cursor 레코드에만 존재)
+	Long lastPostId,               // 마지막 피드의 id (cursor 레코드에만 존재)
+	String message                 // 실패 사유 (error 레코드에만 존재)
+) {
+
+	public static final String TYPE_FEED = "feed";
+	public static final String TYPE_CURSOR = "cursor";
+	public static final String TYPE_ERROR = "error";
+
+	public static FeedStreamRecord feed(FeedInfoResponse feed) {
+		return new FeedStreamRecord(TYPE_FEED, feed, null, null, null);
+	}
+
+	public static FeedStreamRecord cursor(LocalDateTime lastTimestamp, Long lastPostId) {
+		return new FeedStreamRecord(TYPE_CURSOR, null, lastTimestamp, lastPostId, null);
+	}
+
+	public static FeedStreamRecord error(String message) {
+		return new FeedStreamRecord(TYPE_ERROR, null, null, null, message);
+	}
+}
@@ -0,0 +1,18 @@
+package com.example.backend.social.feed.dto;
+
+import java.util.List;
+
+/**
+ * 게시물 조각 DTO
+ * 피드 조회 시 게시물마다 채워넣는, 거의 변하지 않는 데이터 (해시태그 / 이미지 URL) 를 담은 객체
+ * PostFragmentCache 의 캐시 값으로 사용한다.
+ */
+public record PostFragment(
+	List<String> hashTagList,
+	List<String> imageUrlList
+) {
+
+	public static PostFragment empty() {
+		return new PostFragment(List.of(), List.of());
+	}
+}
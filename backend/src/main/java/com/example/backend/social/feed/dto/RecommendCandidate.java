@@ -0,0 +1,15 @@
+package com.example.backend.social.feed.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 추천 후보 DTO
+ * RecommendCandidatePool 에 보관하는 추천 후보 게시물의 최소 정보 (엔티티 대신 필터링 / 정렬에 필요한 값만 보관)
+ */
+public record RecommendCandidate(
+	Long postId,
+	Long memberId,
+	LocalDateTime createDate,
+	Double popularityScore
+) {
+}
@@ -0,0 +1,216 @@
+package com.example.backend.social.feed.implement;
+
+import static com.example.backend.social.feed.constant.FeedConstants.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.entity.MemberEntity;
+import com.example.backend.social.feed.Feed;
+import com.example.backend.social.feed.dto.FeedRequest;
+import com.example.backend.social.feed.dto.PostFragment;
+import com.example.backend.social.feed.exception.FeedErrorCode;
+import com.example.backend.social.feed.exception.FeedException;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/***
+ * ConcurrentFeedAssembler
+ * 메인 피드 조회 단계를 가상 스레드에서 병렬로 실행하는 컴포넌트 (custom.feed.concurrentAssembly=true 인 경우 사용)
+ * 1단계 : 팔로잉 게시물 조회 / 추천 후보 조회를 동시에 실행
+ * 2단계 : 전체 게시물에 대한 해시태그·이미지 / 북마크 / 좋아요 조회를 동시에 실행
+ * 요청마다 custom.feed.assembly.deadlineMs 의 마감 시간을 두며,
+ * 필수 단계(팔로잉, 해시태그·이미지)가 마감 내 끝나지 않으면 예외를, 부가 단계는 기본값으로 채운 부분 결과를 반환한다.
+ * 각 단계는 트랜잭션 밖에서 실행되므로 조회 결과는 준영속 상태이며, 연관 엔티티는 fetch join 된 범위만 사용한다.
+ * 단계마다 커넥션을 하나씩 사용하므로, 동시에 실행되는 단계 수를 커넥션 풀 크기의 절반으로 제한한다
+ * (나머지는 요청 스레드의 트랜잭션과 다른 요청을 위해 남겨둔다). 허용 수를 얻지 못한 단계도 마감 시간까지만 기다린다.
+ */
+@Slf4j
+@Component
+public class ConcurrentFeedAssembler {
+
+	private final FeedSelectorCache feedSelector;
+	private final PostFragmentCache postFragmentCache;
+	private final MeterRegistry meterRegistry;
+	private final boolean enabled;
+	private final long deadlineMs;
+	private final Semaphore stagePermits;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	public ConcurrentFeedAssembler(
+		FeedSelectorCache feedSelector,
+		PostFragmentCache postFragmentCache,
+		MeterRegistry meterRegistry,
+		@Value("${custom.feed.concurrentAssembly:false}") boolean enabled,
+		@Value("${custom.feed.assembly.deadlineMs:" + FEED_ASSEMBLY_DEADLINE_MS + "}") long deadlineMs,
+		@Value("${spring.datasource.hikari.maximum-pool-size:10}") int connectionPoolSize
+	) {
+		this.feedSelector = feedSelector;
+		this.postFragmentCache = postFragmentCache;
+		this.meterRegistry = meterRegistry;
+		this.enabled = enabled;
+		this.deadlineMs = deadlineMs;
+		this.stagePermits = new Semaphore(Math.max(1, connectionPoolSize / 2));
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * 팔로잉 게시물과 추천 게시물을 병렬로 조회하여 데이터까지 채운 피드 리스트를 반환한다
+	 * 추천 후보는 팔로잉 결과를 기다리지 않도록 가장 넓은 범위의 인기 점수 상위 후보를 미리 조회한 뒤,
+	 * 팔로잉 결과로 범위가 정해지면 그 범위로 걸러낸다. 걸러낸 후보는 좁은 범위로 조회한 결과의 앞부분과 같으므로,
+	 * 필요한 개수보다 적게 남은 경우에만 좁은 범위로 다시 조회하여 순차 실행과 같은 후보를 사용한다.
+	 * @param request 피드 요청 객체
+	 * @param member 요청한 멤버
+	 * @return 피드 리스트와 다음 요청을 위한 커서 정보
+	 */
+	public Result assemble(FeedRequest request, MemberEntity member) {
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+
+		// 지연 로딩 컬렉션은 요청 스레드에서 미리 초기화한다 (영속성 컨텍스트는 스레드 간 공유 불가)
+		member.getFollowingList().size();
+
+		int followingCount = (int)(request.maxSize() * FOLLOWING_FEED_RATE);
+		int maxRecommendCount = (int)(request.maxSize() * RECOMMEND_FEED_RATE) + followingCount;
+		LocalDateTime widestLastTime = request.timestamp().minusDays(RECOMMEND_SEARCH_DATE_RANGE);
+
+		Future<List<Feed>> followingStage = submit("following", () ->
+			feedSelector.selectByFollower(member, request.lastPostId(), followingCount), deadline);
+		int widestPoolSize = (int)(maxRecommendCount * RECOMMEND_RANDOM_POOL_MULTIPLIER);
+		Future<List<Feed>> recommendStage = submit("recommend", () ->
+			feedSelector.selectRecommendCandidates(member, request.timestamp(), widestLastTime, widestPoolSize),
+			deadline);
+
+		List<Feed> feedList = new ArrayList<>(await("following", followingStage, deadline, null));
+
+		Feed lastFeed = feedList.isEmpty() ? null : feedList.getLast();
+		Long lastPostId = lastFeed == null ? request.lastPostId() : lastFeed.getPost().getId();
+		LocalDateTime lastTime = lastFeed == null ? widestLastTime : lastFeed.getPost().getCreateDate();
+		int recommendCount = (int)(request.maxSize() * RECOMMEND_FEED_RATE) + (followingCount - feedList.size());
+
+		int poolSize = (int)(recommendCount * RECOMMEND_RANDOM_POOL_MULTIPLIER);
+		List<Feed> widestPool = await("recommend", recommendStage, deadline, List.of());
+		List<Feed> recommendPool = new ArrayList<>(widestPool);
+		recommendPool.removeIf(feed -> feed.getPost().getCreateDate().isBefore(lastTime));
+
+		// 넓은 범위 후보가 가득 찼는데 걸러낸 뒤 부족하면, 좁은 범위에 더 많은 후보가 있을 수 있다
+		if (recommendPool.size() < poolSize && widestPool.size() >= widestPoolSize) {
+			List<Feed> narrowedPool = recommendPool;
+			recommendPool = new ArrayList<>(await("recommend-narrowed", submit("recommend-narrowed", () ->
+				feedSelector.selectRecommendCandidates(member, request.timestamp(), lastTime, poolSize),
+				deadline), deadline, narrowedPool));
+		}
+		recommendPool = recommendPool.subList(0, Math.min(recommendPool.size(), poolSize));
+
+		// 랜덤하게 뽑는다
+		Collections.shuffle(recommendPool);
+		feedList.addAll(recommendPool.subList(0, Math.min(recommendCount, recommendPool.size())));
+
+		hydrate(feedList, member, deadline);
+		return new Result(feedList, lastTime, lastPostId);
+	}
+
+	private void hydrate(List<Feed> feedList, MemberEntity member, long deadline) {
+		if (feedList.isEmpty()) {
+			return;
+		}
+
+		List<Long> postIds = feedList.stream().map(feed -> feed.getPost().getId()).toList();
+
+		Future<Map<Long, PostFragment>> fragmentStage = submit("fragment", () ->
+			postFragmentCache.getAll(postIds), deadline);
+		Future<Map<Long, Long>> bookmarkStage = submit("bookmark", () ->
+			feedSelector.findBookmarkByPostId(postIds, member), deadline);
+		Future<Map<Long, Boolean>> likeStage = submit("like", () ->
+			feedSelector.findLikeByPostId(postIds, member), deadline);
+
+		feedSelector.fillFeedData(
+			feedList,
+			await("fragment", fragmentStage, deadline, null),
+			await("bookmark", bookmarkStage, deadline, Map.of()),
+			await("like", likeStage, deadline, Map.of()));
+	}
+
+	/**
+	 * 단계를 가상 스레드에서 실행한다
+	 * 동시에 실행되는 단계 수 제한에 걸리면 마감 시간까지만 기다리고, 그 안에 허용되지 않으면 시간 초과로 처리한다
+	 */
+	private <T> Future<T> submit(String stage, Supplier<T> task, long deadline) {
+		Timer timer = Timer.builder("feed.assembly.stage")
+			.tag("stage", stage)
+			.publishPercentiles(0.5, 0.95, 0.99)
+			.register(meterRegistry);
+		return executor.submit(() -> {
+			if (!stagePermits.tryAcquire(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+				throw new FeedException(FeedErrorCode.FEED_TIMEOUT);
+			}
+			try {
+				return timer.record(task);
+			} finally {
+				stagePermits.release();
+			}
+		});
+	}
+
+	/**
+	 * 단계 결과를 마감 시간까지 기다린다
+	 * fallback 이 null 이면 필수 단계로 보고 실패 / 시간 초과 시 예외를 던진다
+	 */
+	private <T> T await(String stage, Future<T> future, long deadline, T fallback) {
+		try {
+			return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			future.cancel(true);
+			log.warn("Feed assembly stage timed out: {}", stage);
+			return fallbackOrThrow(fallback, new FeedException(FeedErrorCode.FEED_TIMEOUT));
+		} catch (ExecutionException e) {
+			log.warn("Feed assembly stage failed: {}", stage, e.getCause());
+			if (fallback == null && e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			return fallbackOrThrow(fallback, new FeedException(FeedErrorCode.FEED_TIMEOUT));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			future.cancel(true);
+			return fallbackOrThrow(fallback, new FeedException(FeedErrorCode.FEED_TIMEOUT));
+		}
+	}
+
+	private static <T> T fallbackOrThrow(T fallback, FeedException exception) {
+		if (fallback == null) {
+			throw exception;
+		}
+		return fallback;
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	public record Result(
+		List<Feed> feedList,
+		LocalDateTime lastTime,
+		Long lastPostId
+	) {
+	}
+}
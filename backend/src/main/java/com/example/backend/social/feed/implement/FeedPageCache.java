@@ -0,0 +1,105 @@
+package com.example.backend.social.feed.implement;
+
+import static com.example.backend.social.feed.constant.FeedConstants.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Supplier;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import com.example.backend.social.feed.dto.FeedListResponse;
+import com.example.backend.social.feed.dto.FeedRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/***
+ * FeedPageCache
+ * 메인 피드 페이지의 ETag 를 만들고, 페이지를 멤버 / ETag 단위로 짧게 캐싱하는 컴포넌트
+ * ETag 는 피드 버전과 커서(timestamp, lastPostId, maxSize) 로 만들므로, If-None-Match 확인에는 버전 조회 한 번만 필요하다.
+ * key : feedPage:{memberId}:{ETag}
+ * 페이지 캐시는 200 응답의 본문을 만들 때만 사용하며, 같은 커서로 반복 요청하는 경우 DB 조회 없이 캐싱된 페이지를 반환한다.
+ * 트랜잭션 밖에서 호출해야 캐시 적중 시 DB 커넥션을 사용하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FeedPageCache {
+
+	private static final String PAGE_KEY_FORMAT = "feedPage:%d:%s";
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ObjectMapper objectMapper;
+	private final FeedVersionStore feedVersionStore;
+
+	/**
+	 * 멤버의 현재 피드 버전과 커서로 ETag 를 만든다
+	 * 피드 버전이 올라가기 전까지는 추천 게시물 구성이 바뀌어도 같은 ETag 를 사용한다
+	 * @param memberId 요청한 멤버 ID
+	 * @param request 피드 요청 객체
+	 * @return ETag (따옴표 포함)
+	 */
+	public String getEtag(Long memberId, FeedRequest request) {
+		String tag = feedVersionStore.getVersion(memberId) + ":" + request.timestamp() + ":"
+			+ request.lastPostId() + ":" + request.maxSize();
+		return "\"" + DigestUtils.md5DigestAsHex(tag.getBytes(StandardCharsets.UTF_8)) + "\"";
+	}
+
+	/**
+	 * ETag 로 캐싱된 페이지를 반환하고, 없으면 loader 로 조회한 결과를 캐싱한 뒤 반환한다
+	 * 조회 전에 읽은 버전의 ETag 로 저장하므로, 조회 중 버전이 올라간 경우 다음 요청에서는 사용되지 않는다
+	 * @param memberId 요청한 멤버 ID
+	 * @param etag getEtag 로 만든 ETag
+	 * @param loader 캐시에 없는 경우 피드를 조회하는 함수
+	 * @return 피드 페이지
+	 */
+	public FeedListResponse getOrLoad(Long memberId, String etag, Supplier<FeedListResponse> loader) {
+		String key = String.format(PAGE_KEY_FORMAT, memberId, etag.replace("\"", ""));
+
+		String cached = stringRedisTemplate.opsForValue().get(key);
+		if (cached != null) {
+			try {
+				return objectMapper.readValue(cached, FeedListResponse.class);
+			} catch (JsonProcessingException e) {
+				log.warn("Failed to read feed page cache: key={}", key, e);
+			}
+		}
+
+		FeedListResponse response = loader.get();
+		try {
+			stringRedisTemplate.opsForValue().set(key, objectMapper.writeValueAsString(response),
+				Duration.ofSeconds(FEED_PAGE_CACHE_TTL_SECONDS));
+		} catch (JsonProcessingException e) {
+			log.warn("Failed to write feed page cache: key={}", key, e);
+		}
+		return response;
+	}
+
+	/**
+	 * If-None-Match 헤더 값이 ETag 와 일치하는지 확인한다
+	 * @param ifNoneMatch If-None-Match 헤더 값 (여러 개인 경우 콤마로 구분)
+	 * @param etag 현재 페이지의 ETag
+	 * @return 일치하는 경우 true
+	 */
+	public static boolean matches(String ifNoneMatch, String etag) {
+		if (ifNoneMatch == null || etag == null) {
+			return false;
+		}
+
+		for (String candidate : ifNoneMatch.split(",")) {
+			String value = candidate.trim();
+			if (value.startsWith("W/")) {
+				value = value.substring(2);
+			}
+			if (value.equals("*") || value.equals(etag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -1,34 +1,37 @@
 package com.example.backend.social.feed.implement;
 
 import static com.example.backend.entity.QBookmarkEntity.*;
-import static com.example.backend.entity.QCommentEntity.*;
-import static com.example.backend.entity.QHashtagEntity.*;
-import static com.example.backend.entity.QImageEntity.*;
 import static com.example.backend.entity.QLikeEntity.*;
+import static com.example.backend.entity.QMemberEntity.*;
 import static com.example.backend.entity.QPostEntity.*;
-import static com.example.backend.entity.QPostHashtagEntity.*;
 import static com.example.backend.social.feed.constant.FeedConstants.*;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
+import org.roaringbitmap.RoaringBitmap;
 import org.springframework.stereotype.Component;
 
 import com.example.backend.entity.MemberEntity;
 import com.example.backend.social.feed.Feed;
+import com.example.backend.social.feed.dto.PostFragment;
 import com.example.backend.social.feed.exception.FeedErrorCode;
 import com.example.backend.social.feed.exception.FeedException;
 import com.example.backend.social.feed.schedular.FeedScheduler;
-import com.querydsl.core.types.OrderSpecifier;
+import com.example.backend.social.follow.implement.FollowGraphIndex;
+import com.example.backend.social.reaction.like.util.component.LikedByLookup;
+import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.JPAExpressions;
-import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.RequiredArgsConstructor;
@@ -45,6 +48,11 @@ public class FeedSelectorCache {
 
 	private final JPAQueryFactory queryFactory;
 	private final FeedScheduler scheduler;
+	private final HomeTimelineStore homeTimelineStore;
+	private final PostFragmentCache postFragmentCache;
+	private final FollowGraphIndex followGraphIndex;
+	private final RecommendCandidatePool recommendCandidatePool;
+	private final LikedByLookup likedByLookup;
 
 	/**
 	 * 단건 게시물에 대한 피드를 반환
@@ -56,7 +64,7 @@ public class FeedSelectorCache {
 		List<Feed> feedList = queryFactory.select(
 				Projections.constructor(Feed.class,
 					postEntity,
-					commentCountByPost()))
+					postEntity.commentCount))
 			.from(postEntity)
 			.where(postEntity.id.eq(postId).and(postEntity.isDeleted.isFalse()))
 			.fetch();
@@ -73,18 +81,67 @@ public class FeedSelectorCache {
 	 * 팔로워가 팔로우중인 Member 들의 게시물을 얻는다.
 	 * 파라미터로 넘어오는 timestamp 이전에 등록된 게시물들에 한해서 최대 limit 개수만큼 리스트에 담는다.
 	 * timestamp 가 동일한 경우에 대비하여 lastPostId를 같이 받아서 처리한다.
+	 * 홈 타임라인에 미리 쌓아둔 게시물 ID 와 팔로워가 많은 작성자의 게시물을 병합하여 조회하며,
+	 * 타임라인으로 범위를 채울 수 없는 경우에만 게시물 테이블을 직접 조회한다.
 	 * @param member 팔로워 Entity 객체
 	 * @param lastPostId 최근 받아간 피드 중 가장 마지막 ID
 	 * @param limit 한 번에 받아올 리스트의 최대 크기
 	 * @return 피드 리스트
 	 */
 	public List<Feed> findByFollower(final MemberEntity member, final Long lastPostId, final int limit) {
+		List<Feed> feedList = selectByFollower(member, lastPostId, limit);
+		fillFeedData(feedList, member);
+		return feedList;
+	}
+
+	/**
+	 * 팔로잉 게시물을 데이터 채우기 없이 조회한다
+	 * 조회와 데이터 채우기를 별도 단계로 실행하는 경우 사용 (ConcurrentFeedAssembler)
+	 * @param member 팔로워 Entity 객체
+	 * @param lastPostId 최근 받아간 피드 중 가장 마지막 ID
+	 * @param limit 한 번에 받아올 리스트의 최대 크기
+	 * @return 데이터가 채워지지 않은 피드 리스트
+	 */
+	public List<Feed> selectByFollower(final MemberEntity member, final Long lastPostId, final int limit) {
+		List<Long> timelinePostIds = homeTimelineStore.findPostIds(member, lastPostId, limit);
+		if (timelinePostIds == null) {
+			return findByFollowerFromPostTable(member, lastPostId, limit);
+		}
+
+		List<String> celebrityAuthors = findCelebrityAuthors(member);
+		if (timelinePostIds.isEmpty() && celebrityAuthors.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		BooleanBuilder timelineCondition = new BooleanBuilder();
+		if (!timelinePostIds.isEmpty()) {
+			timelineCondition.or(postEntity.id.in(timelinePostIds));
+		}
+		if (!celebrityAuthors.isEmpty()) {
+			timelineCondition.or(postEntity.member.username.in(celebrityAuthors).and(findPostsBeforeId(lastPostId)));
+		}
+
+		return queryFactory.select(
+				Projections.constructor(Feed.class,
+					postEntity,
+					postEntity.commentCount))
+			.from(postEntity)
+			.join(postEntity.member)
+			.fetchJoin()
+			.where(timelineCondition.and(postEntity.isDeleted.isFalse()))
+			.orderBy(postEntity.createDate.desc())
+			.limit(limit)
+			.fetch();
+	}
+
+	// 홈 타임라인을 사용할 수 없는 범위(타임라인 capacity 이전)의 게시물은 게시물 테이블에서 조회
+	private List<Feed> findByFollowerFromPostTable(final MemberEntity member, final Long lastPostId, final int limit) {
 
 		// Post 정보와 count 를 조회
-		List<Feed> feedList = queryFactory.select(
+		return queryFactory.select(
 				Projections.constructor(Feed.class,
 					postEntity,
-					commentCountByPost()))
+					postEntity.commentCount))
 			.from(postEntity)
 			.join(postEntity.member)
 			.fetchJoin()
@@ -96,9 +153,18 @@ public class FeedSelectorCache {
 			.orderBy(postEntity.createDate.desc())
 			.limit(limit)
 			.fetch();
+	}
 
-		fillFeedData(feedList, member);
-		return feedList;
+	// 타임라인에 push 되지 않는 (팔로워가 많은) 작성자 중 멤버가 팔로우하거나 본인인 작성자
+	private List<String> findCelebrityAuthors(MemberEntity member) {
+		List<String> celebrityAuthors = new ArrayList<>();
+		member.getFollowingList().stream()
+			.filter(scheduler::isCelebrity)
+			.forEach(celebrityAuthors::add);
+		if (scheduler.isCelebrity(member.getUsername())) {
+			celebrityAuthors.add(member.getUsername());
+		}
+		return celebrityAuthors;
 	}
 
 	/**
@@ -113,27 +179,85 @@ public class FeedSelectorCache {
 	public List<Feed> findRecommendFinder(
 		final MemberEntity member, final LocalDateTime startTime, final LocalDateTime lastTime, final int limit) {
 
-		// 이거로 구할 수 있는 것 => 좋아요 개수가 많은 순, 댓글 수가 많은 순으로 구할 수 있다.
-		List<Feed> feedList = queryFactory.select(Projections.constructor(Feed.class,
+		List<Feed> feedList = selectRecommendCandidates(
+			member, startTime, lastTime, (int)(limit * RECOMMEND_RANDOM_POOL_MULTIPLIER));
+
+		// 랜덤하게 뽑는다
+		Collections.shuffle(feedList);
+		feedList = feedList.subList(0, Math.min(limit, feedList.size()));
+
+		fillFeedData(feedList, member);
+		return feedList;
+	}
+
+	/**
+	 * 추천 후보 게시물을 인기 점수 순으로 데이터 채우기 없이 조회한다
+	 * @param member 요청한 유저의 멤버 Entity 객체
+	 * @param startTime 가장 최근 받은 추천 게시물의 timestamp
+	 * @param lastTime 추천 게시물을 요청할 범위
+	 * @param poolSize 후보 최대 개수
+	 * @return 인기 점수 순으로 정렬된 후보 피드 리스트
+	 */
+	public List<Feed> selectRecommendCandidates(
+		final MemberEntity member, final LocalDateTime startTime, final LocalDateTime lastTime, final int poolSize) {
+
+		RoaringBitmap following = followGraphIndex.getFollowing(member);
+
+		// 주기적으로 갱신되는 추천 후보 풀로 처리할 수 있으면 게시물 ID 로만 조회한다
+		List<Long> pooledPostIds = recommendCandidatePool.findCandidateIds(
+			member.getId(), following, startTime, lastTime, poolSize);
+		if (pooledPostIds != null) {
+			return findByPostIdsInOrder(pooledPostIds);
+		}
+
+		// 팔로잉 멤버가 많아 SQL 조건이 길어지는 경우 조건 없이 더 많이 조회한 뒤 메모리에서 걸러낸다
+		boolean postFilter = !fitsMemberIdPredicate(following);
+
+		// 좋아요 / 댓글 / 인기 해시태그 / 작성자 팔로워 수를 미리 반영해둔 인기 점수 순으로 정렬
+		List<Feed> candidates = queryFactory.select(Projections.constructor(Feed.class,
 				postEntity,
-				commentCountByPost()))
+				postEntity.commentCount))
 			.from(postEntity)
 			.join(postEntity.member)
 			.fetchJoin()
 			.where(
 				findByDateBetweenExclusiveStart(startTime, lastTime)
-					.and(isRecommendableToMember(member))
+					.and(postFilter ? isNotAuthorOfPost(member) : isRecommendableToMember(member, following))
 					.and(postEntity.isDeleted.isFalse()))
-			.orderBy(calculatePostPopularityScore())
-			.limit(limit * RECOMMEND_RANDOM_POOL_MULTIPLIER)
+			.orderBy(postEntity.popularityScore.desc())
+			.limit(postFilter ? poolSize * FOLLOW_POST_FILTER_OVERFETCH : poolSize)
 			.fetch();
 
-		// 랜덤하게 뽑는다
-		Collections.shuffle(feedList);
-		feedList = feedList.subList(0, Math.min(limit, feedList.size()));
+		if (!postFilter) {
+			return candidates;
+		}
+		return candidates.stream()
+			.filter(feed -> !FollowGraphIndex.contains(following, feed.getPost().getMember().getId()))
+			.limit(poolSize)
+			.collect(Collectors.toList());
+	}
 
-		fillFeedData(feedList, member);
-		return feedList;
+	// 주어진 게시물 ID 순서를 유지하여 피드를 조회 (조회 사이에 삭제된 게시물은 제외)
+	private List<Feed> findByPostIdsInOrder(List<Long> postIds) {
+		if (postIds.isEmpty()) {
+			return new ArrayList<>();
+		}
+
+		Map<Long, Feed> feedByPostId = queryFactory.select(Projections.constructor(Feed.class,
+				postEntity,
+				postEntity.commentCount))
+			.from(postEntity)
+			.join(postEntity.member)
+			.fetchJoin()
+			.where(postEntity.id.in(postIds).and(postEntity.isDeleted.isFalse()))
+			.fetch()
+			.stream()
+			.collect(Collectors.toMap(feed -> feed.getPost().getId(), feed -> feed));
+
+		return postIds.stream()
+			.map(feedByPostId::get)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
 	}
 
 	/**
@@ -146,7 +270,7 @@ public class FeedSelectorCache {
 	public List<Feed> findByMember(final MemberEntity member, final Long lastPostId, final Integer limit) {
 		List<Feed> feedList = queryFactory.select(Projections.constructor(Feed.class,
 				postEntity,
-				commentCountByPost()))
+				postEntity.commentCount))
 			.from(postEntity)
 			.join(postEntity.member)
 			.fetchJoin()
@@ -170,27 +294,39 @@ public class FeedSelectorCache {
 
 		List<Long> postIds = feeds.stream().map(feed -> feed.getPost().getId()).collect(Collectors.toList());
 
-		Map<Long, List<String>> hashtagsByPostId = queryFactory.select(postHashtagEntity.post.id, hashtagEntity.content)
-			.from(postHashtagEntity)
-			.join(hashtagEntity)
-			.on(postHashtagEntity.hashtag.eq(hashtagEntity))
-			.where(postHashtagEntity.post.id.in(postIds))
-			.fetch()  // Tuple 리스트로 조회
-			.stream()
-			.collect(Collectors.groupingBy(tuple -> tuple.get(0, Long.class),        // postId로 그룹핑
-				Collectors.mapping(tuple -> tuple.get(1, String.class),            // content를 리스트로 수집
-					Collectors.toList())));
-
-		Map<Long, List<String>> imageUrlsByPostId = queryFactory.select(imageEntity.post.id, imageEntity.imageUrl)
-			.from(imageEntity)
-			.where(imageEntity.post.id.in(postIds))
-			.fetch()  // Tuple 리스트로 조회
-			.stream()
-			.collect(Collectors.groupingBy(tuple -> tuple.get(0, Long.class),    // postId로 그룹핑
-				Collectors.mapping(tuple -> tuple.get(1, String.class),            // imageUrl을 리스트로 수집
-					Collectors.toList())));
+		// 해시태그 / 이미지 URL 은 거의 변하지 않으므로 캐시에서 조회
+		Map<Long, PostFragment> fragmentByPostId = postFragmentCache.getAll(postIds);
+		Map<Long, Long> bookmarkByPostId = findBookmarkByPostId(postIds, member);
+		Map<Long, Boolean> likeByPostId = findLikeByPostId(postIds, member);
 
-		Map<Long, Long> bookmarkByPostId = queryFactory.select(bookmarkEntity.id, bookmarkEntity.post.id)
+		fillFeedData(feeds, fragmentByPostId, bookmarkByPostId, likeByPostId);
+	}
+
+	/**
+	 * 미리 조회한 데이터로 피드를 채운다
+	 * 각 Map 에 값이 없는 게시물은 기본값 (해시태그/이미지 없음, 북마크 -1, 좋아요 false) 으로 채운다
+	 */
+	public void fillFeedData(List<Feed> feeds, Map<Long, PostFragment> fragmentByPostId,
+		Map<Long, Long> bookmarkByPostId, Map<Long, Boolean> likeByPostId) {
+
+		feeds.forEach(feed -> {
+			Long postId = feed.getPost().getId();
+			PostFragment fragment = fragmentByPostId.getOrDefault(postId, PostFragment.empty());
+			feed.fillData(
+				fragment.hashTagList(),
+				fragment.imageUrlList(),
+				bookmarkByPostId.getOrDefault(postId, -1L),
+				likeByPostId.getOrDefault(postId, false)
+
+			);
+		});
+	}
+
+	/**
+	 * 게시물 ID 별 멤버의 북마크 ID
+	 */
+	public Map<Long, Long> findBookmarkByPostId(List<Long> postIds, MemberEntity member) {
+		return queryFactory.select(bookmarkEntity.id, bookmarkEntity.post.id)
 			.from(bookmarkEntity)
 			.where(
 				bookmarkEntity.post.id.in(postIds)
@@ -201,47 +337,21 @@ public class FeedSelectorCache {
 				tuple -> tuple.get(bookmarkEntity.post.id),
 				tuple -> tuple.get(bookmarkEntity.id)
 			));
+	}
 
-		// 좋아요 정보 조회 추가
-		Map<Long, Boolean> likeByPostId = queryFactory.select(likeEntity.resourceId)
-			.from(likeEntity)
-			.where(
-				likeEntity.resourceId.in(postIds)
-					.and(likeEntity.member.id.eq(member.getId()))
-					.and(likeEntity.resourceType.eq("POST"))  // 게시물 타입만 필터링
-					.and(likeEntity.isLiked.isTrue()))        // 좋아요가 활성화된 상태만
-			.fetch()
-			.stream()
+	/**
+	 * 게시물 ID 별 멤버의 좋아요 여부 (좋아요한 게시물만 포함)
+	 * 멤버별 좋아요 Set 캐시에서 한 번에 조회한다
+	 */
+	public Map<Long, Boolean> findLikeByPostId(List<Long> postIds, MemberEntity member) {
+		BitSet liked = likedByLookup.likedBy(member.getId(), "POST", postIds);
+		return liked.stream()
+			.mapToObj(postIds::get)
 			.collect(Collectors.toMap(
-				resourceId -> resourceId,
-				resourceId -> true,
+				postId -> postId,
+				postId -> true,
 				(existing, replacement) -> existing  // In case of duplicate keys, keep existing
 			));
-
-		feeds.forEach(feed -> {
-			Long postId = feed.getPost().getId();
-			feed.fillData(
-				hashtagsByPostId.getOrDefault(postId, new ArrayList<>()),
-				imageUrlsByPostId.getOrDefault(postId, new ArrayList<>()),
-				bookmarkByPostId.getOrDefault(postId, -1L),
-				likeByPostId.getOrDefault(postId, false)
-
-			);
-		});
-
-	}
-
-	// 좋아요 개수 / 팔로워 수 / 댓글 수에 각각 점수를 매겨서 정렬
-	private OrderSpecifier<Double> calculatePostPopularityScore() {
-		return Expressions.numberTemplate(Double.class,
-				"({1} * 2) + "
-					+ "(select count(*) from CommentEntity c where c.post.id = {0}) + "
-					+ "(select case when count(*) > 0 then 3 else 0 end "
-					+ "from PostHashtagEntity ph where ph.post.id = {0} and ph.hashtag.id in ({2}))",
-				postEntity.id,
-				postEntity.member.followerCount,
-				scheduler.getPopularHashtagList())
-			.desc();
 	}
 
 	private static BooleanExpression findByDateBetweenExclusiveStart(LocalDateTime startTime, LocalDateTime lastTime) {
@@ -249,15 +359,14 @@ public class FeedSelectorCache {
 			.and(postEntity.createDate.goe(lastTime));
 	}
 
-	private BooleanExpression isNotFollowingPostAuthor(MemberEntity member) {
-		List<String> followingUsernames = member.getFollowingList();
+	private static BooleanExpression isNotFollowingPostAuthor(RoaringBitmap following) {
 
 		// 팔로잉 목록이 없으면 항상 true 조건을 반환
-		if (followingUsernames.isEmpty()) {
+		if (following.isEmpty()) {
 			return Expressions.TRUE;
 		}
 
-		return postEntity.member.username.notIn(followingUsernames);
+		return isMemberIdIn(following).not();
 	}
 
 	private static BooleanExpression isNotAuthorOfPost(MemberEntity member) {
@@ -265,25 +374,51 @@ public class FeedSelectorCache {
 	}
 
 	private BooleanExpression isFollowingOrOwnPost(MemberEntity member) {
-		List<String> followingList = member.getFollowingList();
+		RoaringBitmap following = followGraphIndex.getFollowing(member);
+		BooleanExpression ownPost = postEntity.member.id.eq(member.getId());
 
-		if (followingList.isEmpty()) {
-			return postEntity.member.eq(member);
+		if (following.isEmpty()) {
+			return ownPost;
 		}
 
-		return postEntity.member.username.in(followingList)
-			.or(postEntity.member.eq(member));
+		// 팔로잉 멤버가 많은 경우 바인딩 파라미터 대신 팔로잉 테이블 서브쿼리로 조회
+		if (!fitsMemberIdPredicate(following)) {
+			StringPath followingUsername = Expressions.stringPath("followingUsername");
+			return postEntity.member.username.in(
+					JPAExpressions.select(followingUsername)
+						.from(memberEntity)
+						.join(memberEntity.followingList, followingUsername)
+						.where(memberEntity.id.eq(member.getId())))
+				.or(ownPost);
+		}
+
+		return isMemberIdIn(following).or(ownPost);
 	}
 
-	private BooleanExpression isRecommendableToMember(MemberEntity member) {
-		return isNotFollowingPostAuthor(member)
+	private static BooleanExpression isRecommendableToMember(MemberEntity member, RoaringBitmap following) {
+		return isNotFollowingPostAuthor(following)
 			.and(isNotAuthorOfPost(member));
 	}
 
-	private static JPQLQuery<Long> commentCountByPost() {
-		return JPAExpressions.select(commentEntity.count())
-			.from(commentEntity)
-			.where(commentEntity.post.eq(postEntity));
+	private static boolean fitsMemberIdPredicate(RoaringBitmap following) {
+		return FollowGraphIndex.toRanges(following).size() <= FOLLOW_PREDICATE_MAX_TERMS;
+	}
+
+	// 연속된 멤버 ID 는 BETWEEN, 나머지는 IN 으로 묶어 조건 크기를 줄인다
+	private static BooleanExpression isMemberIdIn(RoaringBitmap memberIds) {
+		List<Long> singleIds = new ArrayList<>();
+		BooleanBuilder condition = new BooleanBuilder();
+		for (long[] range : FollowGraphIndex.toRanges(memberIds)) {
+			if (range[0] == range[1]) {
+				singleIds.add(range[0]);
+			} else {
+				condition.or(postEntity.member.id.between(range[0], range[1]));
+			}
+		}
+		if (!singleIds.isEmpty()) {
+			condition.or(postEntity.member.id.in(singleIds));
+		}
+		return Expressions.asBoolean(condition.getValue());
 	}
 
 	private BooleanExpression findPostsBeforeId(Long lastPostId) {
@@ -0,0 +1,61 @@
+package com.example.backend.social.feed.implement;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.global.util.TransactionUtil;
+
+import lombok.RequiredArgsConstructor;
+
+/***
+ * FeedVersionStore
+ * 멤버별 메인 피드 버전을 Redis 카운터로 관리하는 컴포넌트 (feedVersion:{memberId})
+ * 팔로잉 작성자의 게시물 작성/삭제, 멤버의 팔로우 / 좋아요 / 북마크 변경 시 버전을 올리며,
+ * FeedPageCache 는 버전을 캐시 키에 포함하여 이전 버전의 페이지를 사용하지 않는다.
+ * 버전 증가는 트랜잭션 커밋 이후에 반영하여, 커밋 전 상태로 만든 페이지가 새 버전으로 캐싱되지 않도록 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class FeedVersionStore {
+
+	private static final String VERSION_KEY_FORMAT = "feedVersion:%d";
+
+	private final StringRedisTemplate stringRedisTemplate;
+
+	/**
+	 * 멤버의 현재 피드 버전을 반환한다 (기록이 없으면 0)
+	 */
+	public long getVersion(Long memberId) {
+		String version = stringRedisTemplate.opsForValue().get(getVersionKey(memberId));
+		return version == null ? 0L : Long.parseLong(version);
+	}
+
+	public void bump(Long memberId) {
+		bumpAll(List.of(memberId));
+	}
+
+	/**
+	 * 여러 멤버의 피드 버전을 한 번에 올린다
+	 * @param memberIds 멤버 ID 목록
+	 */
+	public void bumpAll(Collection<Long> memberIds) {
+		if (memberIds.isEmpty()) {
+			return;
+		}
+
+		TransactionUtil.afterCommit(() -> stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection stringConnection = (StringRedisConnection)connection;
+			memberIds.forEach(memberId -> stringConnection.incr(getVersionKey(memberId)));
+			return null;
+		}));
+	}
+
+	private static String getVersionKey(Long memberId) {
+		return String.format(VERSION_KEY_FORMAT, memberId);
+	}
+}
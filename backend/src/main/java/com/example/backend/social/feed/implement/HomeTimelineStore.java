@@ -0,0 +1,293 @@
+package com.example.backend.social.feed.implement;
+
+import static com.example.backend.entity.QPostEntity.*;
+import static com.example.backend.social.feed.constant.FeedConstants.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.entity.MemberEntity;
+import com.example.backend.entity.MemberRepository;
+import com.example.backend.entity.PostEntity;
+import com.example.backend.entity.PostRepository;
+import com.example.backend.global.util.TransactionUtil;
+import com.example.backend.social.feed.dto.CelebrityDemotedEvent;
+import com.example.backend.social.feed.schedular.FeedScheduler;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * HomeTimelineStore
+ * 멤버별 홈 타임라인을 Redis Sorted Set 으로 유지하는 컴포넌트
+ * key : timeline:{memberId}, member : postId, score : postId
+ * 게시물 작성 시 팔로워들의 타임라인에 push(fan-out-on-write) 하고,
+ * 팔로워 수가 많은 작성자의 게시물은 push 하지 않고 조회 시점에 병합한다.
+ * 타임라인이 없는 멤버는 첫 조회 시 DB 에서 재구성한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HomeTimelineStore {
+
+	private static final String TIMELINE_KEY_FORMAT = "timeline:%d";
+
+	// 빈 타임라인도 "재구성 완료" 상태로 남기기 위한 sentinel (score 0 은 조회 범위에 포함되지 않는다)
+	private static final String SENTINEL_MEMBER = "0";
+
+	// 재구성 중인 타임라인 표시 (score -1, 재구성이 끝나면 제거)
+	private static final String REBUILD_MARKER_MEMBER = "-1";
+	private static final Duration REBUILD_MARKER_TTL = Duration.ofMinutes(1);
+
+	private final StringRedisTemplate stringRedisTemplate;
+	private final JPAQueryFactory queryFactory;
+	private final MemberRepository memberRepository;
+	private final PostRepository postRepository;
+	private final FeedScheduler scheduler;
+	private final FeedVersionStore feedVersionStore;
+
+	/**
+	 * 타임라인에서 lastPostId 이전의 게시물 ID 를 최대 limit 개 반환한다
+	 * 타임라인이 잘려서(capacity 초과) 요청 범위를 채울 수 없는 경우 null 을 반환하며,
+	 * 호출 측은 기존 테이블 조회로 대체해야 한다.
+	 * @param member 요청한 멤버
+	 * @param lastPostId 마지막으로 받은 게시물 ID (0 인 경우 처음부터)
+	 * @param limit 최대 개수
+	 * @return 최신순 게시물 ID 리스트 또는 null
+	 */
+	public List<Long> findPostIds(MemberEntity member, Long lastPostId, int limit) {
+		String key = getTimelineKey(member.getId());
+		if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+			rebuild(member);
+		}
+
+		double max = lastPostId == 0L ? Double.POSITIVE_INFINITY : lastPostId - 1;
+		Set<String> members = stringRedisTemplate.opsForZSet().reverseRangeByScore(key, 1, max, 0, limit);
+		stringRedisTemplate.expire(key, Duration.ofDays(HOME_TIMELINE_TTL_DAYS));
+
+		List<Long> postIds = new ArrayList<>();
+		if (members != null) {
+			members.forEach(value -> postIds.add(Long.parseLong(value)));
+		}
+
+		if (postIds.size() < limit && isTruncated(key)) {
+			return null;
+		}
+		return postIds;
+	}
+
+	/**
+	 * 새 게시물을 작성자와 팔로워들의 타임라인에 push 한다
+	 * 팔로워 수가 임계치 이상인 작성자는 본인 타임라인에도 push 하지 않는다 (조회 시 병합)
+	 * 트랜잭션 안에서 호출된 경우 커밋 이후에 push 하여, 롤백된 게시물이 타임라인에 남지 않도록 한다
+	 * @param post 새로 저장된 게시물
+	 */
+	public void fanOut(PostEntity post) {
+		MemberEntity author = post.getMember();
+		if (scheduler.isCelebrity(author.getUsername())) {
+			return;
+		}
+
+		List<Long> receiverIds = findReceiverIds(author);
+		String postId = String.valueOf(post.getId());
+		double score = post.getId();
+		TransactionUtil.afterCommit(() -> push(receiverIds, postId, score));
+	}
+
+	private void push(List<Long> receiverIds, String postId, double score) {
+		// 타임라인이 없는 멤버는 첫 조회 시 재구성되므로 push 대상에서 제외한다
+		List<Object> exists = stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection stringConnection = (StringRedisConnection)connection;
+			receiverIds.forEach(receiverId -> stringConnection.exists(getTimelineKey(receiverId)));
+			return null;
+		});
+
+		stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection stringConnection = (StringRedisConnection)connection;
+			for (int i = 0; i < receiverIds.size(); i++) {
+				if (!Boolean.TRUE.equals(exists.get(i))) {
+					continue;
+				}
+				String key = getTimelineKey(receiverIds.get(i));
+				stringConnection.zAdd(key, score, postId);
+				stringConnection.zRemRange(key, 0, -(HOME_TIMELINE_CAPACITY + 1));
+			}
+			return null;
+		});
+
+		// 캐싱된 피드 페이지가 새 게시물을 놓치지 않도록 버전을 올린다
+		feedVersionStore.bumpAll(receiverIds);
+	}
+
+	/**
+	 * 삭제된 게시물을 작성자와 팔로워들의 타임라인에서 제거한다
+	 * 트랜잭션 안에서 호출된 경우 커밋 이후에 제거하여, 롤백된 삭제가 타임라인에 반영되지 않도록 한다
+	 * @param post 삭제된 게시물
+	 */
+	public void retract(PostEntity post) {
+		List<Long> receiverIds = findReceiverIds(post.getMember());
+		String postId = String.valueOf(post.getId());
+
+		TransactionUtil.afterCommit(() -> {
+			stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				StringRedisConnection stringConnection = (StringRedisConnection)connection;
+				receiverIds.forEach(receiverId -> stringConnection.zRem(getTimelineKey(receiverId), postId));
+				return null;
+			});
+			feedVersionStore.bumpAll(receiverIds);
+		});
+	}
+
+	/**
+	 * 팔로워 수가 임계치 아래로 내려간 작성자의 팔로워 타임라인을 비운다
+	 * 해당 작성자의 게시물은 push 되지 않았으므로, 다음 조회 시 작성자의 게시물을 포함해 재구성되도록 한다
+	 * @param event 더 이상 celebrity 가 아닌 작성자 목록
+	 */
+	@EventListener
+	public void onCelebrityDemoted(CelebrityDemotedEvent event) {
+		if (event.usernames().isEmpty()) {
+			return;
+		}
+
+		List<Long> receiverIds = new ArrayList<>(memberRepository.findFollowerIdsByUsernameIn(event.usernames()));
+		receiverIds.addAll(memberRepository.findIdsByUsernameIn(event.usernames()));
+		if (receiverIds.isEmpty()) {
+			return;
+		}
+
+		stringRedisTemplate.delete(receiverIds.stream().map(HomeTimelineStore::getTimelineKey).toList());
+		feedVersionStore.bumpAll(receiverIds);
+		log.info("Invalidated {} home timelines for demoted authors {}", receiverIds.size(), event.usernames());
+	}
+
+	/**
+	 * 팔로우 시 팔로잉 대상의 최근 게시물을 요청자의 타임라인에 채워넣는다
+	 * 트랜잭션 안에서 호출된 경우 커밋 이후에 반영하여, 롤백된 팔로우가 타임라인에 남지 않도록 한다
+	 * @param sender 팔로우 요청자
+	 * @param receiver 팔로우 대상
+	 */
+	public void backfill(MemberEntity sender, MemberEntity receiver) {
+		String key = getTimelineKey(sender.getId());
+		if (scheduler.isCelebrity(receiver.getUsername())
+			|| !Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+			return;
+		}
+
+		List<Long> recentPostIds = postRepository.findRecentIdsByMemberId(
+			receiver.getId(), PageRequest.of(0, HOME_TIMELINE_BACKFILL_SIZE));
+		if (recentPostIds.isEmpty()) {
+			return;
+		}
+
+		TransactionUtil.afterCommit(() -> {
+			// 커밋 전에 만료된 타임라인은 다음 조회 시 재구성되므로 sentinel 없는 키를 새로 만들지 않는다
+			if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+				return;
+			}
+			stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+				StringRedisConnection stringConnection = (StringRedisConnection)connection;
+				recentPostIds.forEach(postId -> stringConnection.zAdd(key, postId, String.valueOf(postId)));
+				stringConnection.zRemRange(key, 0, -(HOME_TIMELINE_CAPACITY + 1));
+				return null;
+			});
+		});
+	}
+
+	/**
+	 * 언팔로우 시 대상의 게시물을 요청자의 타임라인에서 제거한다
+	 * 트랜잭션 안에서 호출된 경우 커밋 이후에 제거하여, 롤백된 언팔로우가 타임라인에 반영되지 않도록 한다
+	 * @param sender 언팔로우 요청자
+	 * @param receiver 언팔로우 대상
+	 */
+	public void prune(MemberEntity sender, MemberEntity receiver) {
+		String key = getTimelineKey(sender.getId());
+		if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(key))) {
+			return;
+		}
+
+		List<Long> recentPostIds = postRepository.findRecentIdsByMemberId(
+			receiver.getId(), PageRequest.of(0, HOME_TIMELINE_CAPACITY));
+		if (recentPostIds.isEmpty()) {
+			return;
+		}
+
+		Object[] members = recentPostIds.stream().map(String::valueOf).toArray();
+		TransactionUtil.afterCommit(() -> stringRedisTemplate.opsForZSet().remove(key, members));
+	}
+
+	/**
+	 * 타임라인이 없거나 만료된 멤버의 타임라인을 DB 에서 재구성한다
+	 * 팔로워 수가 많은 작성자의 게시물은 조회 시점에 병합하므로 제외한다
+	 * DB 조회 전에 키를 먼저 만들어두어, 조회 이후에 커밋된 게시물도 fan-out 으로 타임라인에 추가되도록 한다
+	 */
+	private void rebuild(MemberEntity member) {
+		String key = getTimelineKey(member.getId());
+		// 재구성 중인 타임라인은 sentinel 이 없어 잘린 타임라인으로 취급되므로 조회 측은 게시물 테이블로 대체한다
+		// 재구성에 실패하면 REBUILD_MARKER_TTL 이후 키가 사라져 다시 재구성한다
+		stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection stringConnection = (StringRedisConnection)connection;
+			stringConnection.zAdd(key, -1, REBUILD_MARKER_MEMBER);
+			stringConnection.expire(key, REBUILD_MARKER_TTL.toSeconds());
+			return null;
+		});
+
+		List<String> authors = new ArrayList<>();
+		member.getFollowingList().stream()
+			.filter(username -> !scheduler.isCelebrity(username))
+			.forEach(authors::add);
+		authors.add(member.getUsername());
+
+		List<Long> postIds = queryFactory.select(postEntity.id)
+			.from(postEntity)
+			.where(postEntity.member.username.in(authors)
+				.and(postEntity.isDeleted.isFalse()))
+			.orderBy(postEntity.id.desc())
+			.limit(HOME_TIMELINE_CAPACITY)
+			.fetch();
+
+		// 재구성 중에 push 된 게시물과 합친 뒤 capacity 를 넘는 오래된 게시물을 잘라낸다
+		stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection stringConnection = (StringRedisConnection)connection;
+			stringConnection.zRem(key, REBUILD_MARKER_MEMBER);
+			// capacity 만큼 가득 찼다면 더 오래된 게시물이 있을 수 있으므로 sentinel 을 두지 않는다
+			if (postIds.size() < HOME_TIMELINE_CAPACITY) {
+				stringConnection.zAdd(key, 0, SENTINEL_MEMBER);
+			}
+			postIds.forEach(postId -> stringConnection.zAdd(key, postId, String.valueOf(postId)));
+			stringConnection.zRemRange(key, 0, -(HOME_TIMELINE_CAPACITY + 1));
+			stringConnection.expire(key, Duration.ofDays(HOME_TIMELINE_TTL_DAYS).toSeconds());
+			return null;
+		});
+		log.debug("Rebuilt home timeline for member {} with {} posts", member.getId(), postIds.size());
+	}
+
+	// sentinel 이 잘려나갔다면 capacity 를 초과해 오래된 게시물이 버려진 상태
+	private boolean isTruncated(String key) {
+		return stringRedisTemplate.opsForZSet().score(key, SENTINEL_MEMBER) == null;
+	}
+
+	private List<Long> findReceiverIds(MemberEntity author) {
+		Collection<String> followerUsernames = author.getFollowerList();
+		List<Long> receiverIds = new ArrayList<>();
+		if (!followerUsernames.isEmpty()) {
+			receiverIds.addAll(memberRepository.findIdsByUsernameIn(followerUsernames));
+		}
+		receiverIds.add(author.getId());
+		return receiverIds;
+	}
+
+	private static String getTimelineKey(Long memberId) {
+		return String.format(TIMELINE_KEY_FORMAT, memberId);
+	}
+}
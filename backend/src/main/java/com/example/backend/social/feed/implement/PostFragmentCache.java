@@ -0,0 +1,197 @@
+package com.example.backend.social.feed.implement;
+
+import static com.example.backend.entity.QHashtagEntity.*;
+import static com.example.backend.entity.QImageEntity.*;
+import static com.example.backend.entity.QPostHashtagEntity.*;
+import static com.example.backend.social.feed.constant.FeedConstants.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.global.util.TransactionUtil;
+import com.example.backend.social.feed.dto.PostFragment;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/***
+ * PostFragmentCache
+ * 피드 데이터 채우기에 사용하는 게시물별 해시태그 / 이미지 URL 을 캐싱하는 2단계 캐시
+ * L1 : 인스턴스 메모리 (크기 / TTL 제한), L2 : Redis (postFragment:{postId})
+ * 두 캐시에 모두 없는 게시물만 한 번에 DB 에서 조회한다.
+ * 해시태그 / 이미지 변경, 게시물 삭제 시 evict 를 호출해야 하며,
+ * 다른 인스턴스의 L1 은 TTL 이 지나면 갱신된다.
+ */
+@Slf4j
+@Component
+public class PostFragmentCache {
+
+	private static final String FRAGMENT_KEY_FORMAT = "postFragment:%d";
+
+	private final JPAQueryFactory queryFactory;
+	private final StringRedisTemplate stringRedisTemplate;
+	private final ObjectMapper objectMapper;
+
+	private final Cache<Long, PostFragment> localCache;
+	private final Counter remoteHitCounter;
+	private final Counter remoteMissCounter;
+
+	public PostFragmentCache(
+		JPAQueryFactory queryFactory,
+		StringRedisTemplate stringRedisTemplate,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry
+	) {
+		this.queryFactory = queryFactory;
+		this.stringRedisTemplate = stringRedisTemplate;
+		this.objectMapper = objectMapper;
+
+		this.localCache = Caffeine.newBuilder()
+			.maximumSize(POST_FRAGMENT_LOCAL_CACHE_SIZE)
+			.expireAfterWrite(Duration.ofMinutes(POST_FRAGMENT_LOCAL_TTL_MINUTES))
+			.recordStats()
+			.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, localCache, "feed.postFragment.local");
+
+		this.remoteHitCounter = Counter.builder("feed.postFragment.remote")
+			.tag("result", "hit")
+			.register(meterRegistry);
+		this.remoteMissCounter = Counter.builder("feed.postFragment.remote")
+			.tag("result", "miss")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 게시물 ID 목록에 대한 해시태그 / 이미지 URL 을 반환한다
+	 * L1 -> L2 -> DB 순서로 조회하며, 하위 단계에서 찾은 값은 상위 캐시에 채워넣는다
+	 * @param postIds 게시물 ID 리스트
+	 * @return 게시물 ID 별 PostFragment (모든 ID 에 대해 값이 존재)
+	 */
+	public Map<Long, PostFragment> getAll(List<Long> postIds) {
+		Map<Long, PostFragment> result = new HashMap<>(localCache.getAllPresent(postIds));
+
+		List<Long> localMissIds = postIds.stream().filter(postId -> !result.containsKey(postId)).toList();
+		if (localMissIds.isEmpty()) {
+			return result;
+		}
+
+		Map<Long, PostFragment> remoteFragments = getAllFromRemote(localMissIds);
+		remoteHitCounter.increment(remoteFragments.size());
+		remoteMissCounter.increment(localMissIds.size() - remoteFragments.size());
+		localCache.putAll(remoteFragments);
+		result.putAll(remoteFragments);
+
+		List<Long> remoteMissIds = localMissIds.stream().filter(postId -> !result.containsKey(postId)).toList();
+		if (remoteMissIds.isEmpty()) {
+			return result;
+		}
+
+		Map<Long, PostFragment> loadedFragments = loadFromDatabase(remoteMissIds);
+		putAllToRemote(loadedFragments);
+		localCache.putAll(loadedFragments);
+		result.putAll(loadedFragments);
+		return result;
+	}
+
+	/**
+	 * 게시물의 캐시를 제거한다
+	 * 트랜잭션 안에서 호출된 경우 커밋 이후에 제거하여, 커밋 전 데이터가 다시 캐싱되지 않도록 한다
+	 * @param postId 게시물 ID
+	 */
+	public void evict(Long postId) {
+		TransactionUtil.afterCommit(() -> {
+			localCache.invalidate(postId);
+			stringRedisTemplate.delete(getFragmentKey(postId));
+		});
+	}
+
+	private Map<Long, PostFragment> getAllFromRemote(List<Long> postIds) {
+		List<String> keys = postIds.stream().map(PostFragmentCache::getFragmentKey).toList();
+		List<String> values = stringRedisTemplate.opsForValue().multiGet(keys);
+
+		Map<Long, PostFragment> fragments = new HashMap<>();
+		if (values == null) {
+			return fragments;
+		}
+
+		for (int i = 0; i < postIds.size(); i++) {
+			String value = values.get(i);
+			if (value == null) {
+				continue;
+			}
+			try {
+				fragments.put(postIds.get(i), objectMapper.readValue(value, PostFragment.class));
+			} catch (JsonProcessingException e) {
+				log.warn("Failed to read post fragment cache: postId={}", postIds.get(i), e);
+			}
+		}
+		return fragments;
+	}
+
+	private void putAllToRemote(Map<Long, PostFragment> fragments) {
+		Map<String, String> values = new HashMap<>();
+		fragments.forEach((postId, fragment) -> {
+			try {
+				values.put(getFragmentKey(postId), objectMapper.writeValueAsString(fragment));
+			} catch (JsonProcessingException e) {
+				log.warn("Failed to write post fragment cache: postId={}", postId, e);
+			}
+		});
+
+		long ttlSeconds = Duration.ofHours(POST_FRAGMENT_REMOTE_TTL_HOURS).toSeconds();
+		stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+			StringRedisConnection stringConnection = (StringRedisConnection)connection;
+			values.forEach((key, value) -> stringConnection.setEx(key, ttlSeconds, value));
+			return null;
+		});
+	}
+
+	private Map<Long, PostFragment> loadFromDatabase(List<Long> postIds) {
+		Map<Long, List<String>> hashtagsByPostId = queryFactory.select(postHashtagEntity.post.id, hashtagEntity.content)
+			.from(postHashtagEntity)
+			.join(hashtagEntity)
+			.on(postHashtagEntity.hashtag.eq(hashtagEntity))
+			.where(postHashtagEntity.post.id.in(postIds))
+			.fetch()  // Tuple 리스트로 조회
+			.stream()
+			.collect(Collectors.groupingBy(tuple -> tuple.get(0, Long.class),        // postId로 그룹핑
+				Collectors.mapping(tuple -> tuple.get(1, String.class),            // content를 리스트로 수집
+					Collectors.toList())));
+
+		Map<Long, List<String>> imageUrlsByPostId = queryFactory.select(imageEntity.post.id, imageEntity.imageUrl)
+			.from(imageEntity)
+			.where(imageEntity.post.id.in(postIds))
+			.fetch()  // Tuple 리스트로 조회
+			.stream()
+			.collect(Collectors.groupingBy(tuple -> tuple.get(0, Long.class),    // postId로 그룹핑
+				Collectors.mapping(tuple -> tuple.get(1, String.class),            // imageUrl을 리스트로 수집
+					Collectors.toList())));
+
+		// 해시태그 / 이미지가 없는 게시물도 빈 값으로 캐싱하여 반복 조회를 막는다
+		Map<Long, PostFragment> fragments = new HashMap<>();
+		postIds.forEach(postId -> fragments.put(postId, new PostFragment(
+			hashtagsByPostId.getOrDefault(postId, new ArrayList<>()),
+			imageUrlsByPostId.getOrDefault(postId, new ArrayList<>()))));
+		return fragments;
+	}
+
+	private static String getFragmentKey(Long postId) {
+		return String.format(FRAGMENT_KEY_FORMAT, postId);
+	}
+}
@@ -0,0 +1,67 @@
+package com.example.backend.social.feed.implement;
+
+import static com.example.backend.entity.QPostHashtagEntity.*;
+import static com.example.backend.social.feed.constant.FeedConstants.*;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.example.backend.entity.HashtagEntity;
+import com.example.backend.entity.PostEntity;
+import com.example.backend.entity.PostRepository;
+import com.example.backend.social.feed.schedular.FeedScheduler;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+/***
+ * PostPopularityScorer
+ * 추천 피드 정렬에 사용하는 게시물 인기 점수(popularityScore)를 증분 갱신하는 컴포넌트
+ * 조회 시점에 댓글 수 / 인기 해시태그 여부를 서브쿼리로 계산하지 않도록
+ * 댓글 생성/삭제 시점에 점수를 반영해둔다.
+ * 좋아요는 요청마다 게시물 행을 갱신하지 않도록 증분 반영하지 않으며,
+ * 동기화된 좋아요 수와 인기 해시태그 변경, 시간 감쇠는 FeedScheduler 에서 일괄 반영한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostPopularityScorer {
+
+	private final JPAQueryFactory queryFactory;
+	private final PostRepository postRepository;
+	private final FeedScheduler scheduler;
+
+	/**
+	 * 새 게시물의 초기 인기 점수를 설정한다
+	 * 해시태그 저장 이후에 호출해야 인기 해시태그 점수가 반영된다
+	 * @param post 새로 저장된 게시물
+	 */
+	public void initialize(PostEntity post) {
+		double score = post.getMember().getFollowerCount() * FOLLOWER_SCORE_WEIGHT;
+		if (hasPopularHashtag(post.getId())) {
+			score += POPULAR_HASHTAG_SCORE;
+		}
+		post.initPopularityScore(score);
+	}
+
+	public void applyCommentCreated(Long postId) {
+		postRepository.addPopularityScore(postId, COMMENT_SCORE_WEIGHT);
+	}
+
+	public void applyCommentDeleted(Long postId) {
+		postRepository.addPopularityScore(postId, -COMMENT_SCORE_WEIGHT);
+	}
+
+	private boolean hasPopularHashtag(Long postId) {
+		List<HashtagEntity> popularHashtagList = scheduler.getPopularHashtagList();
+		if (popularHashtagList.isEmpty()) {
+			return false;
+		}
+
+		return queryFactory.selectOne()
+			.from(postHashtagEntity)
+			.where(postHashtagEntity.post.id.eq(postId)
+				.and(postHashtagEntity.hashtag.in(popularHashtagList)))
+			.fetchFirst() != null;
+	}
+}
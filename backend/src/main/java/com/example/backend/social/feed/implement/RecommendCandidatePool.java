@@ -0,0 +1,147 @@
+package com.example.backend.social.feed.implement;
+
+import static com.example.backend.social.feed.constant.FeedConstants.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.social.feed.dto.RecommendCandidate;
+import com.example.backend.social.follow.implement.FollowGraphIndex;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/***
+ * RecommendCandidatePool
+ * 추천 피드 후보를 메모리에 보관하는 전역 풀
+ * FeedScheduler 가 주기적으로 추천 범위 내 인기 점수 상위 게시물을 조회해 교체하며,
+ * 후보는 생성 시간 구간(RECOMMEND_POOL_BUCKET_HOURS) 별로 인기 점수 순 배열로 보관한다.
+ * 요청 시에는 DB 조회 없이 요청 범위의 구간만 골라 팔로잉 / 본인 게시물을 걸러낸다.
+ * 풀이 비어있거나 오래되었거나, 요청 범위를 다 채울 수 없는 경우 null 을 반환하며 호출 측은 DB 조회로 대체한다.
+ */
+@Component
+public class RecommendCandidatePool {
+
+	private final long maxAgeMs;
+	private final Counter hitCounter;
+	private final Counter fallbackCounter;
+
+	private volatile Snapshot snapshot;
+
+	public RecommendCandidatePool(
+		MeterRegistry meterRegistry,
+		@Value("${custom.feed.recommendPool.maxAgeMs:300000}") long maxAgeMs
+	) {
+		this.maxAgeMs = maxAgeMs;
+		this.hitCounter = Counter.builder("feed.recommend.pool.request")
+			.tag("result", "hit")
+			.register(meterRegistry);
+		this.fallbackCounter = Counter.builder("feed.recommend.pool.request")
+			.tag("result", "fallback")
+			.register(meterRegistry);
+
+		Gauge.builder("feed.recommend.pool.size", this, pool -> pool.snapshot == null ? 0 : pool.snapshot.size)
+			.register(meterRegistry);
+		Gauge.builder("feed.recommend.pool.age", this, RecommendCandidatePool::getAgeMs)
+			.baseUnit("milliseconds")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 풀을 새 후보로 교체한다
+	 * @param rankedCandidates 인기 점수 순으로 정렬된 후보 리스트
+	 * @param windowStart 후보를 조회한 범위의 시작 시간
+	 */
+	public void replace(List<RecommendCandidate> rankedCandidates, LocalDateTime windowStart) {
+		Map<Long, List<RecommendCandidate>> grouped = rankedCandidates.stream()
+			.collect(Collectors.groupingBy(candidate -> toBucket(candidate.createDate()), Collectors.toList()));
+
+		NavigableMap<Long, RecommendCandidate[]> buckets = new TreeMap<>();
+		grouped.forEach((bucket, candidates) -> buckets.put(bucket, candidates.toArray(RecommendCandidate[]::new)));
+
+		snapshot = new Snapshot(
+			buckets,
+			rankedCandidates.size(),
+			rankedCandidates.size() >= RECOMMEND_POOL_MAX_SIZE,
+			windowStart,
+			System.currentTimeMillis());
+	}
+
+	/**
+	 * 요청 범위 [lastTime, startTime) 의 추천 후보 게시물 ID 를 인기 점수 순으로 최대 poolSize 개 반환한다
+	 * @param memberId 요청한 멤버 ID (본인 게시물 제외)
+	 * @param following 요청한 멤버의 팔로잉 멤버 ID 비트맵 (팔로잉 게시물 제외)
+	 * @param startTime 가장 최근 받은 추천 게시물의 timestamp
+	 * @param lastTime 추천 게시물을 요청할 범위
+	 * @param poolSize 후보 최대 개수
+	 * @return 인기 점수 순 게시물 ID 리스트, 풀로 처리할 수 없는 경우 null
+	 */
+	public List<Long> findCandidateIds(Long memberId, RoaringBitmap following,
+		LocalDateTime startTime, LocalDateTime lastTime, int poolSize) {
+
+		Snapshot current = snapshot;
+		if (current == null
+			|| System.currentTimeMillis() - current.refreshedAt > maxAgeMs
+			|| lastTime.isBefore(current.windowStart)) {
+			fallbackCounter.increment();
+			return null;
+		}
+
+		List<RecommendCandidate> matched = new ArrayList<>();
+		for (RecommendCandidate[] bucket : current.buckets.subMap(toBucket(lastTime), true, toBucket(startTime), true)
+			.values()) {
+			for (RecommendCandidate candidate : bucket) {
+				if (candidate.createDate().isBefore(startTime)
+					&& !candidate.createDate().isBefore(lastTime)
+					&& !candidate.memberId().equals(memberId)
+					&& !FollowGraphIndex.contains(following, candidate.memberId())) {
+					matched.add(candidate);
+				}
+			}
+		}
+
+		// 상위 후보만 보관하므로, 걸러낸 결과가 부족하면 풀 밖에 후보가 더 있을 수 있다
+		if (matched.size() < poolSize && current.truncated) {
+			fallbackCounter.increment();
+			return null;
+		}
+
+		hitCounter.increment();
+		return matched.stream()
+			.sorted(Comparator.comparing(RecommendCandidate::popularityScore).reversed())
+			.limit(poolSize)
+			.map(RecommendCandidate::postId)
+			.collect(Collectors.toList());
+	}
+
+	private double getAgeMs() {
+		Snapshot current = snapshot;
+		return current == null ? Double.NaN : System.currentTimeMillis() - current.refreshedAt;
+	}
+
+	private static long toBucket(LocalDateTime dateTime) {
+		return Duration.ofSeconds(dateTime.toEpochSecond(ZoneOffset.UTC)).toHours() / RECOMMEND_POOL_BUCKET_HOURS;
+	}
+
+	private record Snapshot(
+		NavigableMap<Long, RecommendCandidate[]> buckets,
+		int size,
+		boolean truncated,
+		LocalDateTime windowStart,
+		long refreshedAt
+	) {
+	}
+}
@@ -1,20 +1,40 @@
 package com.example.backend.social.feed.schedular;
 
+import static com.example.backend.entity.QMemberEntity.*;
+import static com.example.backend.entity.QPostEntity.*;
 import static com.example.backend.entity.QPostHashtagEntity.*;
 import static com.example.backend.social.feed.constant.FeedConstants.*;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.backend.entity.HashtagEntity;
+import com.example.backend.social.feed.dto.CelebrityDemotedEvent;
+import com.example.backend.social.feed.dto.RecommendCandidate;
+import com.example.backend.social.feed.implement.RecommendCandidatePool;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /***
  * FeedScheduler
@@ -22,17 +42,28 @@ import lombok.RequiredArgsConstructor;
  * @author ChoiHyunSan
  * @since 2025-02-03
  */
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class FeedScheduler {
 
 	private final JPAQueryFactory queryFactory;
+	private final RecommendCandidatePool recommendCandidatePool;
+	private final ApplicationEventPublisher eventPublisher;
+	private final JdbcTemplate jdbcTemplate;
 
 	@Getter
 	private List<HashtagEntity> popularHashtagList = Collections.emptyList();
 
+	@Getter
+	private Set<String> celebrityUsernameSet = Collections.emptySet();
+
+	/**
+	 * 인기 해시태그를 갱신하고 추천 범위 내 게시물의 인기 점수에 변경분만 반영한다
+	 * 새로 인기 해시태그를 포함하게 된 게시물은 점수를 더하고, 더 이상 포함하지 않는 게시물은 점수를 뺀다
+	 */
 	@Scheduled(cron = "0 0 0 * * *")
-	@Transactional(readOnly = true)
+	@Transactional
 	public void updatePopularHashtag() {
 		// 인기 해시태그를 찾기
 		List<HashtagEntity> newPopularHashtagList = queryFactory.select(postHashtagEntity.hashtag)
@@ -42,6 +73,166 @@ public class FeedScheduler {
 			.limit(POPULAR_HASHTAG_COUNT)
 			.fetch();
 
+		applyPopularHashtagScore(popularHashtagList, newPopularHashtagList);
 		popularHashtagList = Collections.unmodifiableList(newPopularHashtagList);
 	}
+
+	/**
+	 * 추천 범위 내 게시물의 인기 점수를 매 시간 좋아요 / 댓글 수와 인기 해시태그 여부로 다시 계산한다
+	 * 점수 = (팔로워 점수 + 좋아요 점수 + 댓글 점수 + 인기 해시태그 점수) * 감쇠 비율 ^ 작성 후 경과 시간
+	 * 점수 전체를 곱해서 감쇠하면 이후 취소된 좋아요 / 댓글의 가중치를 감쇠 없이 빼게 되어 점수가 음수가 되므로,
+	 * 증분 갱신은 다음 계산 전까지의 근사치로만 사용하고 매 시간 원래 값에서 다시 계산한다.
+	 * 시작 시에도 한 번 실행하여 기존 게시물의 점수를 채운다.
+	 */
+	@Scheduled(cron = "0 0 * * * *")
+	@EventListener(ApplicationReadyEvent.class)
+	public void decayPopularityScore() {
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime windowStart = now.minusDays(RECOMMEND_SEARCH_DATE_RANGE);
+		List<HashtagEntity> popularHashtags = popularHashtagList;
+
+		long lastId = 0L;
+		int updatedPosts = 0;
+		while (true) {
+			List<Tuple> posts = queryFactory.select(postEntity.id, postEntity.createDate,
+					postEntity.member.followerCount, postEntity.likeCount, postEntity.commentCount)
+				.from(postEntity)
+				.where(postEntity.id.gt(lastId)
+					.and(postEntity.createDate.goe(windowStart))
+					.and(postEntity.isDeleted.isFalse()))
+				.orderBy(postEntity.id.asc())
+				.limit(POPULARITY_RECOMPUTE_CHUNK_SIZE)
+				.fetch();
+			if (posts.isEmpty()) {
+				break;
+			}
+
+			List<Long> postIds = posts.stream().map(post -> post.get(postEntity.id)).toList();
+			Set<Long> popularPostIds = findPostIdsWithHashtagIn(postIds, popularHashtags);
+
+			jdbcTemplate.batchUpdate("UPDATE post SET popularity_score = ? WHERE id = ?", posts, posts.size(),
+				(ps, post) -> {
+					Long postId = post.get(postEntity.id);
+					ps.setDouble(1, computePopularityScore(post, popularPostIds.contains(postId), now));
+					ps.setLong(2, postId);
+				});
+
+			updatedPosts += posts.size();
+			lastId = postIds.get(postIds.size() - 1);
+		}
+
+		log.info("게시글 {}개 -> 인기 점수 재계산 완료", updatedPosts);
+	}
+
+	private static double computePopularityScore(Tuple post, boolean hasPopularHashtag, LocalDateTime now) {
+		double score = post.get(postEntity.member.followerCount) * FOLLOWER_SCORE_WEIGHT
+			+ post.get(postEntity.likeCount) * LIKE_SCORE_WEIGHT
+			+ post.get(postEntity.commentCount) * COMMENT_SCORE_WEIGHT;
+		if (hasPopularHashtag) {
+			score += POPULAR_HASHTAG_SCORE;
+		}
+
+		long elapsedHours = Math.max(0, Duration.between(post.get(postEntity.createDate), now).toHours());
+		return score * Math.pow(POPULARITY_DECAY_RATE, elapsedHours);
+	}
+
+	private Set<Long> findPostIdsWithHashtagIn(List<Long> postIds, List<HashtagEntity> hashtagList) {
+		if (hashtagList.isEmpty()) {
+			return Collections.emptySet();
+		}
+
+		return new HashSet<>(queryFactory.selectDistinct(postHashtagEntity.post.id)
+			.from(postHashtagEntity)
+			.where(postHashtagEntity.post.id.in(postIds)
+				.and(postHashtagEntity.hashtag.in(hashtagList)))
+			.fetch());
+	}
+
+	private void applyPopularHashtagScore(List<HashtagEntity> oldList, List<HashtagEntity> newList) {
+		// 인기 해시태그를 새로 포함하게 된 게시물
+		queryFactory.update(postEntity)
+			.set(postEntity.popularityScore, postEntity.popularityScore.add(POPULAR_HASHTAG_SCORE))
+			.where(isInRecommendRange()
+				.and(hasHashtagIn(newList))
+				.and(hasHashtagIn(oldList).not()))
+			.execute();
+
+		// 인기 해시태그를 더 이상 포함하지 않는 게시물 (0 미만으로 내려가지 않도록 보정)
+		queryFactory.update(postEntity)
+			.set(postEntity.popularityScore, new CaseBuilder()
+				.when(postEntity.popularityScore.gt(POPULAR_HASHTAG_SCORE))
+				.then(postEntity.popularityScore.subtract(POPULAR_HASHTAG_SCORE))
+				.otherwise(0.0))
+			.where(isInRecommendRange()
+				.and(hasHashtagIn(oldList))
+				.and(hasHashtagIn(newList).not()))
+			.execute();
+	}
+
+	private static BooleanExpression isInRecommendRange() {
+		return postEntity.createDate.goe(LocalDateTime.now().minusDays(RECOMMEND_SEARCH_DATE_RANGE))
+			.and(postEntity.isDeleted.isFalse());
+	}
+
+	private static BooleanExpression hasHashtagIn(List<HashtagEntity> hashtagList) {
+		if (hashtagList.isEmpty()) {
+			return Expressions.FALSE.isTrue();
+		}
+
+		return JPAExpressions.selectOne()
+			.from(postHashtagEntity)
+			.where(postHashtagEntity.post.id.eq(postEntity.id)
+				.and(postHashtagEntity.hashtag.in(hashtagList)))
+			.exists();
+	}
+
+	/**
+	 * 팔로워 수가 임계치 이상인 작성자 목록을 갱신한다
+	 * 해당 작성자의 게시물은 타임라인에 fan-out 하지 않고 피드 조회 시점에 병합한다
+	 * 임계치 아래로 내려간 작성자는 팔로워 타임라인을 다시 구성하도록 CelebrityDemotedEvent 를 발행한다
+	 */
+	@Scheduled(fixedRate = 10 * 60 * 1000)
+	@Transactional(readOnly = true)
+	public void updateCelebrityUsername() {
+		List<String> newCelebrityList = queryFactory.select(memberEntity.username)
+			.from(memberEntity)
+			.where(memberEntity.followerCount.goe(CELEBRITY_FOLLOWER_THRESHOLD))
+			.fetch();
+
+		Set<String> demoted = new HashSet<>(celebrityUsernameSet);
+		newCelebrityList.forEach(demoted::remove);
+
+		celebrityUsernameSet = Collections.unmodifiableSet(new HashSet<>(newCelebrityList));
+		if (!demoted.isEmpty()) {
+			eventPublisher.publishEvent(new CelebrityDemotedEvent(demoted));
+		}
+	}
+
+	/**
+	 * 추천 범위 내 인기 점수 상위 게시물로 추천 후보 풀을 갱신한다
+	 * 갱신 주기는 custom.feed.recommendPool.refreshMs 로 설정한다
+	 */
+	@Scheduled(fixedRateString = "${custom.feed.recommendPool.refreshMs:60000}")
+	@Transactional(readOnly = true)
+	public void refreshRecommendCandidatePool() {
+		LocalDateTime windowStart = LocalDateTime.now().minusDays(RECOMMEND_SEARCH_DATE_RANGE);
+
+		List<RecommendCandidate> rankedCandidates = queryFactory.select(Projections.constructor(RecommendCandidate.class,
+				postEntity.id,
+				postEntity.member.id,
+				postEntity.createDate,
+				postEntity.popularityScore))
+			.from(postEntity)
+			.where(postEntity.createDate.goe(windowStart)
+				.and(postEntity.isDeleted.isFalse()))
+			.orderBy(postEntity.popularityScore.desc())
+			.limit(RECOMMEND_POOL_MAX_SIZE)
+			.fetch();
+
+		recommendCandidatePool.replace(rankedCandidates, windowStart);
+	}
+
+	public boolean isCelebrity(String username) {
+		return celebrityUsernameSet.contains(username);
+	}
 }
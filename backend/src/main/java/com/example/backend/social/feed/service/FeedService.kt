@@ -1,15 +1,22 @@
 package com.example.backend.social.feed.service
 
+import com.example.backend.entity.MemberEntity
 import com.example.backend.global.exception.GlobalException
 import com.example.backend.identity.member.exception.MemberErrorCode
 import com.example.backend.identity.member.service.MemberService
+import com.example.backend.social.feed.Feed
 import com.example.backend.social.feed.constant.FeedConstants
 import com.example.backend.social.feed.converter.FeedConverter
 import com.example.backend.social.feed.dto.*
+import com.example.backend.social.feed.implement.ConcurrentFeedAssembler
 import com.example.backend.social.feed.implement.FeedSelectorCache
 import com.example.backend.social.feed.implement.FeedValidator
 import org.springframework.stereotype.Service
+import org.springframework.transaction.PlatformTransactionManager
 import org.springframework.transaction.annotation.Transactional
+import org.springframework.transaction.support.TransactionTemplate
+import java.time.LocalDateTime
+import java.util.function.Consumer
 
 /**
  * FeedService
@@ -22,8 +29,12 @@ open class FeedService(
     private val memberService: MemberService,
     private val feedValidator: FeedValidator,
     private val feedConverter: FeedConverter,
-    private val feedSelector: FeedSelectorCache
+    private val feedSelector: FeedSelectorCache,
+    private val concurrentFeedAssembler: ConcurrentFeedAssembler,
+    transactionManager: PlatformTransactionManager
 ) {
+    private val readOnlyTransaction = TransactionTemplate(transactionManager).apply { isReadOnly = true }
+
     /**
      * Feed 요청 시에 적절한 게시물을 취합하여 반환하는 메서드
      * @param request Feed 요청 시에 클라이언트에서 전달하는 Request 객체
@@ -37,29 +48,21 @@ open class FeedService(
         val member = memberService.findById(userId)
             .orElseThrow { GlobalException(MemberErrorCode.NOT_FOUND) }
 
-        val followingCount = (request.maxSize * FeedConstants.FOLLOWING_FEED_RATE).toInt()
-        val feedList = feedSelector.findByFollower(
-            member, request.lastPostId, followingCount
-        ).toMutableList()
+        if (concurrentFeedAssembler.isEnabled) {
+            val result = concurrentFeedAssembler.assemble(request, member)
+            val feedDtoList = result.feedList
+                .sortedByDescending { it.post.createDate }
+                .map { feedConverter.toFeedInfoResponse(it) }
+
+            return FeedListResponse.create(feedDtoList, result.lastTime, result.lastPostId)
+        }
 
-        // 마지막 포스트 ID와 시간 추출 (안전하게 접근)
+        val feedList = selectFollowing(member, request).toMutableList()
         val lastFeed = feedList.lastOrNull()
+        val lastTime = lastTimeOf(request, lastFeed)
         val lastPostId = lastFeed?.post?.id ?: request.lastPostId
 
-        val lastTime =
-            lastFeed?.post?.createDate ?: request.timestamp.minusDays(FeedConstants.RECOMMEND_SEARCH_DATE_RANGE)
-
-        val recommendCount = (request.maxSize * FeedConstants.RECOMMEND_FEED_RATE).toInt() +
-                (followingCount - feedList.size)
-
-        val recommendFeedList = feedSelector.findRecommendFinder(
-            member,
-            request.timestamp,
-            lastTime,
-            recommendCount
-        )
-
-        feedList.addAll(recommendFeedList)
+        feedList.addAll(selectRecommend(member, request, lastTime, feedList.size))
 
         // 생성일 기준으로 정렬 (자바 호환성을 위해 메서드 호출 방식 사용)
         val feedDtoList = feedList
@@ -73,6 +76,83 @@ open class FeedService(
         )
     }
 
+    /**
+     * Feed 요청 시에 취합한 게시물을 조회되는 즉시 sink 로 전달하는 메서드
+     * 팔로잉 게시물을 먼저 전달한 뒤 추천 게시물을 이어서 전달하며, 전체 리스트를 응답 객체로 만들지 않는다.
+     * 단계마다 짧은 읽기 전용 트랜잭션에서 조회와 변환만 하고, sink 호출(응답 쓰기)은 트랜잭션 밖에서 하여
+     * 느린 클라이언트가 DB 커넥션을 점유하지 않도록 한다.
+     * @param request Feed 요청 시에 클라이언트에서 전달하는 Request 객체
+     * @param userId 요청한 사용자의 ID
+     * @param sink 변환된 피드를 하나씩 전달받는 소비자
+     * @return 다음 요청에 사용할 커서 레코드
+     */
+    open fun streamList(request: FeedRequest, userId: Long, sink: Consumer<FeedInfoResponse>): FeedStreamRecord {
+        feedValidator.validateRequest(request)
+
+        val following = readOnlyTransaction.execute {
+            val member = memberService.findById(userId)
+                .orElseThrow { GlobalException(MemberErrorCode.NOT_FOUND) }
+
+            val followingList = selectFollowing(member, request)
+            val lastFeed = followingList.lastOrNull()
+            FollowingStage(
+                followingList.map { feedConverter.toFeedInfoResponse(it) },
+                lastTimeOf(request, lastFeed),
+                lastFeed?.post?.id ?: request.lastPostId
+            )
+        }!!
+        following.feeds.forEach { sink.accept(it) }
+
+        val recommendList = readOnlyTransaction.execute {
+            val member = memberService.findById(userId)
+                .orElseThrow { GlobalException(MemberErrorCode.NOT_FOUND) }
+
+            selectRecommend(member, request, following.lastTime, following.feeds.size)
+                .sortedByDescending { it.post.createDate }
+                .map { feedConverter.toFeedInfoResponse(it) }
+        }!!
+        recommendList.forEach { sink.accept(it) }
+
+        return FeedStreamRecord.cursor(following.lastTime, following.lastPostId)
+    }
+
+    // 스트리밍 첫 단계(팔로잉 피드)의 결과와 다음 단계에 넘길 커서
+    private data class FollowingStage(
+        val feeds: List<FeedInfoResponse>,
+        val lastTime: LocalDateTime,
+        val lastPostId: Long?
+    )
+
+    private fun selectFollowing(member: MemberEntity, request: FeedRequest): List<Feed> {
+        val followingCount = (request.maxSize * FeedConstants.FOLLOWING_FEED_RATE).toInt()
+        return feedSelector.findByFollower(member, request.lastPostId, followingCount)
+    }
+
+    /**
+     * 추천 게시물 조회 - 팔로잉 게시물이 부족한 만큼 추천 게시물로 채운다
+     */
+    private fun selectRecommend(
+        member: MemberEntity,
+        request: FeedRequest,
+        lastTime: LocalDateTime,
+        followingSize: Int
+    ): List<Feed> {
+        val followingCount = (request.maxSize * FeedConstants.FOLLOWING_FEED_RATE).toInt()
+        val recommendCount = (request.maxSize * FeedConstants.RECOMMEND_FEED_RATE).toInt() +
+                (followingCount - followingSize)
+
+        return feedSelector.findRecommendFinder(
+            member,
+            request.timestamp,
+            lastTime,
+            recommendCount
+        )
+    }
+
+    // 마지막 포스트의 생성 시간 (없는 경우 추천 검색 범위의 시작 시간)
+    private fun lastTimeOf(request: FeedRequest, lastFeed: Feed?): LocalDateTime =
+        lastFeed?.post?.createDate ?: request.timestamp.minusDays(FeedConstants.RECOMMEND_SEARCH_DATE_RANGE)
+
     /**
      * 특정 포스트 ID로 피드를 조회하는 메서드
      * @param postId 조회할 포스트 ID
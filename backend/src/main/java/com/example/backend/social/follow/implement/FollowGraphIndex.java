@@ -0,0 +1,202 @@
+package com.example.backend.social.follow.implement;
+
+import static com.example.backend.entity.QMemberEntity.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.entity.MemberEntity;
+import com.example.backend.entity.MemberRepository;
+import com.example.backend.entity.QMemberEntity;
+import com.example.backend.global.util.TransactionUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/***
+ * FollowGraphIndex
+ * 멤버별 팔로잉 멤버 ID 집합을 압축 비트맵(RoaringBitmap)으로 메모리에 유지하는 컴포넌트
+ * 애플리케이션 시작 시 DB 에서 전체를 재구성하고, 팔로우 / 언팔로우 커밋 이후 증분 반영한다.
+ * 인덱스에 없는 멤버는 조회 시 팔로우 테이블에서 멤버 ID 로 읽어온다.
+ * 비트맵은 교체 방식(copy-on-write)으로 갱신하므로 조회 측은 잠금 없이 읽을 수 있으며, 반환된 비트맵을 수정하면 안 된다.
+ * 다른 인스턴스에서 발생한 변경은 FOLLOWING_TTL 이 지나 DB 에서 다시 읽을 때 반영된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FollowGraphIndex {
+
+	private static final int REBUILD_BATCH_SIZE = 1_000;
+	private static final int MAX_MEMBERS = 1_000_000;
+	private static final Duration FOLLOWING_TTL = Duration.ofMinutes(10);
+
+	private final JPAQueryFactory queryFactory;
+	private final MemberRepository memberRepository;
+
+	private final Cache<Long, RoaringBitmap> followingByMemberId = Caffeine.newBuilder()
+		.maximumSize(MAX_MEMBERS)
+		.expireAfterWrite(FOLLOWING_TTL)
+		.build();
+
+	// 재구성 중에 팔로우 관계가 바뀐 멤버 (재구성 전에 읽은 비트맵으로 덮어쓰지 않는다)
+	private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+	private volatile boolean rebuilding;
+
+	/**
+	 * 멤버의 팔로잉 멤버 ID 비트맵을 반환한다
+	 * @param member 멤버 엔티티
+	 * @return 팔로잉 멤버 ID 비트맵 (읽기 전용)
+	 */
+	public RoaringBitmap getFollowing(MemberEntity member) {
+		return followingByMemberId.get(member.getId(), this::load);
+	}
+
+	public boolean isFollowing(MemberEntity member, Long targetMemberId) {
+		return contains(getFollowing(member), targetMemberId);
+	}
+
+	public static boolean contains(RoaringBitmap bitmap, Long memberId) {
+		return bitmap.contains(toIndex(memberId));
+	}
+
+	/**
+	 * 팔로우 관계를 반영한다 (트랜잭션 안에서 호출된 경우 커밋 이후 반영)
+	 */
+	public void follow(Long senderId, Long receiverId) {
+		TransactionUtil.afterCommit(() -> update(senderId, bitmap -> bitmap.add(toIndex(receiverId))));
+	}
+
+	/**
+	 * 팔로우 취소를 반영한다 (트랜잭션 안에서 호출된 경우 커밋 이후 반영)
+	 */
+	public void unfollow(Long senderId, Long receiverId) {
+		TransactionUtil.afterCommit(() -> update(senderId, bitmap -> bitmap.remove(toIndex(receiverId))));
+	}
+
+	/**
+	 * 비트맵을 연속 구간 리스트로 변환한다
+	 * @param bitmap 멤버 ID 비트맵
+	 * @return [시작 ID, 끝 ID] (양 끝 포함) 구간 리스트
+	 */
+	public static List<long[]> toRanges(RoaringBitmap bitmap) {
+		List<long[]> ranges = new ArrayList<>();
+		IntIterator iterator = bitmap.getIntIterator();
+		long start = -1;
+		long end = -1;
+		while (iterator.hasNext()) {
+			long id = iterator.next();
+			if (start >= 0 && id == end + 1) {
+				end = id;
+				continue;
+			}
+			if (start >= 0) {
+				ranges.add(new long[] {start, end});
+			}
+			start = id;
+			end = id;
+		}
+		if (start >= 0) {
+			ranges.add(new long[] {start, end});
+		}
+		return ranges;
+	}
+
+	/**
+	 * 전체 팔로우 관계를 DB 에서 읽어 인덱스를 재구성한다
+	 * 멤버 ID 순으로 REBUILD_BATCH_SIZE 명씩 나누어 조회한다
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		rebuilding = true;
+		try {
+			rebuildAll();
+		} finally {
+			rebuilding = false;
+			changedDuringRebuild.clear();
+		}
+	}
+
+	private void rebuildAll() {
+		QMemberEntity followingMember = new QMemberEntity("followingMember");
+		StringPath followingUsername = Expressions.stringPath("followingUsername");
+
+		long lastMemberId = 0L;
+		int memberCount = 0;
+		while (true) {
+			List<Long> memberIds = queryFactory.select(memberEntity.id)
+				.from(memberEntity)
+				.where(memberEntity.id.gt(lastMemberId))
+				.orderBy(memberEntity.id.asc())
+				.limit(REBUILD_BATCH_SIZE)
+				.fetch();
+			if (memberIds.isEmpty()) {
+				break;
+			}
+
+			Map<Long, RoaringBitmap> batch = new HashMap<>();
+			memberIds.forEach(memberId -> batch.put(memberId, new RoaringBitmap()));
+
+			List<Tuple> edges = queryFactory.select(memberEntity.id, followingMember.id)
+				.from(memberEntity)
+				.join(memberEntity.followingList, followingUsername)
+				.join(followingMember).on(followingMember.username.eq(followingUsername))
+				.where(memberEntity.id.in(memberIds))
+				.fetch();
+			edges.forEach(edge -> batch.get(edge.get(memberEntity.id)).add(toIndex(edge.get(followingMember.id))));
+
+			batch.values().forEach(RoaringBitmap::runOptimize);
+			// 조회 이후 팔로우 관계가 바뀐 멤버는 덮어쓰지 않는다 (변경 반영과 같은 키 잠금 안에서 확인)
+			batch.forEach((memberId, bitmap) -> followingByMemberId.asMap().compute(memberId,
+				(key, current) -> changedDuringRebuild.contains(key) ? current : bitmap));
+
+			memberCount += memberIds.size();
+			lastMemberId = memberIds.getLast();
+		}
+		log.info("Follow graph index rebuilt for {} members", memberCount);
+	}
+
+	private RoaringBitmap load(Long memberId) {
+		RoaringBitmap following = new RoaringBitmap();
+		memberRepository.findFollowingIdsByMemberId(memberId)
+			.forEach(followingId -> following.add(toIndex(followingId)));
+		following.runOptimize();
+		return following;
+	}
+
+	// 기존 비트맵은 조회 측이 사용 중일 수 있으므로 복사본을 수정한 뒤 교체한다
+	// 인덱스에 없는 멤버는 다음 조회 시 커밋된 관계를 DB 에서 읽으므로 수정하지 않는다
+	private void update(Long memberId, Consumer<RoaringBitmap> modifier) {
+		if (rebuilding) {
+			changedDuringRebuild.add(memberId);
+		}
+		followingByMemberId.asMap().computeIfPresent(memberId, (key, current) -> {
+			RoaringBitmap updated = current.clone();
+			modifier.accept(updated);
+			updated.runOptimize();
+			return updated;
+		});
+	}
+
+	// RoaringBitmap 은 32bit 정수 집합이므로 멤버 ID 는 int 범위 안에 있어야 한다
+	private static int toIndex(Long memberId) {
+		return Math.toIntExact(memberId);
+	}
+}
@@ -4,7 +4,10 @@ import com.example.backend.entity.MemberRepository
 import com.example.backend.global.event.FollowEvent
 import com.example.backend.social.exception.SocialErrorCode
 import com.example.backend.social.exception.SocialException
+import com.example.backend.social.feed.implement.FeedVersionStore
+import com.example.backend.social.feed.implement.HomeTimelineStore
 import com.example.backend.social.follow.converter.FollowConverter
+import com.example.backend.social.follow.implement.FollowGraphIndex
 import com.example.backend.social.follow.dto.FollowResponse
 import com.example.backend.social.follow.dto.FollowerListResponse
 import com.example.backend.social.follow.dto.FollowingListResponse
@@ -23,7 +26,10 @@ import org.springframework.transaction.annotation.Transactional
 @Service
 open class FollowService @Autowired constructor(
     private val memberRepository: MemberRepository,
-    private val applicationEventPublisher: ApplicationEventPublisher
+    private val applicationEventPublisher: ApplicationEventPublisher,
+    private val homeTimelineStore: HomeTimelineStore,
+    private val followGraphIndex: FollowGraphIndex,
+    private val feedVersionStore: FeedVersionStore
 ) {
     // 본인을 팔로우 신청하는지 확인
     private fun checkNotSelfFollow(senderUsername: String, receiverUsername: String) {
@@ -63,8 +69,13 @@ open class FollowService @Autowired constructor(
         // 5. 팔로우 관계 생성 및 팔로우 카운트 증가
         sender.addFollowing(receiver)
         receiver.addFollower(sender)
+        followGraphIndex.follow(sender.id, receiver.id)
 
-        // 6. 팔로우 이벤트 발생
+        // 6. 요청자의 홈 타임라인에 대상의 최근 게시물 채워넣기
+        homeTimelineStore.backfill(sender, receiver)
+        feedVersionStore.bump(sender.id)
+
+        // 7. 팔로우 이벤트 발생
         applicationEventPublisher.publishEvent(
             FollowEvent.create(senderUsername, receiver.id, sender.id)
         )
@@ -103,6 +114,11 @@ open class FollowService @Autowired constructor(
         // 5. 팔로우 취소 관계 처리 및 팔로우 카운트 감소
         sender.removeFollowing(receiver)
         receiver.removeFollower(sender)
+        followGraphIndex.unfollow(sender.id, receiver.id)
+
+        // 6. 요청자의 홈 타임라인에서 대상의 게시물 제거
+        homeTimelineStore.prune(sender, receiver)
+        feedVersionStore.bump(sender.id)
 
         return FollowConverter.toResponse(sender, receiver)
     }
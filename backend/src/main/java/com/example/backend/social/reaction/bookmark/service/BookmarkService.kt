@@ -6,6 +6,7 @@ import com.example.backend.entity.MemberRepository
 import com.example.backend.entity.PostRepository
 import com.example.backend.social.exception.SocialErrorCode
 import com.example.backend.social.exception.SocialException
+import com.example.backend.social.feed.implement.FeedVersionStore
 import com.example.backend.social.reaction.bookmark.converter.BookmarkConverter
 import com.example.backend.social.reaction.bookmark.dto.BookmarkListResponse
 import com.example.backend.social.reaction.bookmark.dto.CreateBookmarkResponse
@@ -25,7 +26,8 @@ import org.springframework.transaction.annotation.Transactional
 open class BookmarkService @Autowired constructor(
     private val bookmarkRepository: BookmarkRepository,
     private val memberRepository: MemberRepository,
-    private val postRepository: PostRepository
+    private val postRepository: PostRepository,
+    private val feedVersionStore: FeedVersionStore
 ) {
     /**
      * 북마크 생성 메서드
@@ -54,6 +56,7 @@ open class BookmarkService @Autowired constructor(
 
         // 5. 생성 로직
         bookmarkRepository.save(bookmark)
+        feedVersionStore.bump(memberId)
 
         return BookmarkConverter.toCreateResponse(bookmark)
     }
@@ -83,6 +86,7 @@ open class BookmarkService @Autowired constructor(
 
         // 4. 삭제 로직
         bookmarkRepository.delete(bookmark)
+        feedVersionStore.bump(memberId)
 
         return BookmarkConverter.toDeleteResponse(bookmark)
     }
@@ -46,7 +46,8 @@ public class LikeController {
 		@RequestParam String resourceType, // post, comment, reply
 		@AuthenticationPrincipal CustomUser securityUser
 	) {
-		LikeToggleResponse response = likeService.toggleLike(securityUser.getId(), resourceType, id);
+		LikeToggleResponse response = likeService.toggleLike(
+			securityUser.getId(), securityUser.getUsername(), resourceType, id);
 		String message = response.isLiked()
 			? "좋아요가 성공적으로 적용되었습니다."
 			: "좋아요가 성공적으로 취소되었습니다.";
@@ -0,0 +1,12 @@
+package com.example.backend.social.reaction.like.dto;
+
+/**
+ * 좋아요 대상 리소스 요약 (작성자 ID, 삭제 여부)
+ */
+public record LikeTarget(
+	Long ownerId,
+	boolean deleted
+) {
+	// 존재하지 않는 리소스 (삭제된 리소스와 같이 찾을 수 없음으로 처리)
+	public static final LikeTarget MISSING = new LikeTarget(null, true);
+}
@@ -1,6 +1,7 @@
 package com.example.backend.social.reaction.like.dto;
 
-public record LikeStateInfo(
-	boolean currentlyLiked,
+public record LikeToggleResult(
+	LikeInfo likeInfo,
+	Long likeCount,
 	boolean isNewLike
 ) { }
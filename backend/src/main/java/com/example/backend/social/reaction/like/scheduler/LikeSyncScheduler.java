@@ -1,9 +1,12 @@
 package com.example.backend.social.reaction.like.scheduler;
 
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import com.example.backend.social.reaction.like.service.LikeSyncService;
+import com.example.backend.social.reaction.like.util.component.LikeSyncLog;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -13,13 +16,50 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class LikeSyncScheduler {
     private final LikeSyncService likeSyncService;
-    
+    private final LikeSyncLog likeSyncLog;
+
+    // 한 번의 실행에서 처리할 최대 배치 수
+    private static final int MAX_BATCHES_PER_RUN = 20;
+    private static final int CLAIM_COUNT = 10_000;
+
+    /**
+     * 시작 시 이전 인스턴스가 처리하지 못한 좋아요 변경을 가져와 반영
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void replay() {
+        int claimed = likeSyncLog.claimStale(CLAIM_COUNT);
+        log.info("좋아요 동기화 로그 복구: 미반영 {}건, 다른 컨슈머로부터 가져온 항목 {}건", likeSyncLog.size(), claimed);
+        drain();
+    }
+
     /**
-     * 30초마다 자동으로 좋아요 동기화 실행
+     * 실행 중 종료된 인스턴스가 처리하지 못한 좋아요 변경을 주기적으로 가져오고, 비어있는 컨슈머를 정리
      */
-    @Scheduled(fixedDelay = 30_000) // 30초마다 실행
+    @Scheduled(
+        initialDelayString = "${custom.like.sync.claimDelayMs:60000}",
+        fixedDelayString = "${custom.like.sync.claimDelayMs:60000}")
+    public void claimStale() {
+        int claimed = likeSyncLog.claimStale(CLAIM_COUNT);
+        int removed = likeSyncLog.removeIdleConsumers();
+        if (claimed > 0 || removed > 0) {
+            log.info("좋아요 동기화 로그 복구: 다른 컨슈머로부터 가져온 항목 {}건, 제거한 컨슈머 {}개", claimed, removed);
+        }
+    }
+
+    /**
+     * 동기화 로그에 쌓인 좋아요 변경을 주기적으로 DB 에 반영
+     */
+    @Scheduled(fixedDelayString = "${custom.like.sync.drainDelayMs:1000}")
     public void scheduledSync() {
         log.debug("좋아요 동기화가 시작됨");
-        likeSyncService.syncToDatabase();
+        drain();
+    }
+
+    private void drain() {
+        for (int batch = 0; batch < MAX_BATCHES_PER_RUN; batch++) {
+            if (!likeSyncService.syncToDatabase()) {
+                return;
+            }
+        }
     }
 }
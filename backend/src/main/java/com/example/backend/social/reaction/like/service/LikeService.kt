@@ -3,19 +3,18 @@ package com.example.backend.social.reaction.like.service
 import com.example.backend.entity.MemberRepository
 import com.example.backend.social.exception.SocialErrorCode
 import com.example.backend.social.exception.SocialException
+import com.example.backend.social.feed.implement.FeedVersionStore
 import com.example.backend.social.reaction.like.converter.LikeConverter
-import com.example.backend.social.reaction.like.dto.LikeInfo
 import com.example.backend.social.reaction.like.dto.LikeToggleResponse
 import com.example.backend.social.reaction.like.scheduler.LikeSyncManager
 import com.example.backend.social.reaction.like.util.RedisKeyUtil
 import com.example.backend.social.reaction.like.util.component.LikeEventPublisher
-import com.example.backend.social.reaction.like.util.component.OwnerChecker
+import com.example.backend.social.reaction.like.util.component.LikeMetrics
 import com.example.backend.social.reaction.like.util.component.RedisLikeService
 import com.example.backend.social.reaction.like.util.component.ResourceResolver
 import lombok.RequiredArgsConstructor
 import org.springframework.stereotype.Service
 import org.springframework.transaction.annotation.Transactional
-import java.time.LocalDateTime
 
 /**
  * 좋아요 서비스
@@ -27,73 +26,87 @@ import java.time.LocalDateTime
 @Service
 open class LikeService(
     private val memberRepository: MemberRepository,
-    private val ownerChecker: OwnerChecker,
     private val resourceResolver: ResourceResolver,
     private val redisLikeService: RedisLikeService,
     private val likeEventPublisher: LikeEventPublisher,
-    private val likeSyncManager: LikeSyncManager
+    private val likeSyncManager: LikeSyncManager,
+    private val feedVersionStore: FeedVersionStore,
+    private val likeMetrics: LikeMetrics
 ) {
 
 /**
      * 좋아요 토글 메서드
      * 리소스의 타입을 통해 대상 확인 및 좋아요 토글을 진행합니다.
-     * 좋아요 취소의 경우 Redis 에 데이터가 없는 경우에만 서버 통신을 진행합니다.
+     * 좋아요 상태는 Redis 스크립트로 원자적으로 토글하며, Redis 에 데이터가 없는 경우에만 DB 를 조회합니다.
      *
      * @param memberId, resourceType, resourceId
      * @return LikeToggleResponse (DTO)
      */
     @Transactional
     open fun toggleLike(memberId: Long, resourceType: String, resourceId: Long?): LikeToggleResponse {
-        // 1. 멤버 id를 통해 멤버 가져오기
-        val member = memberRepository!!.findById(memberId)
+        val member = memberRepository.findById(memberId)
             .orElseThrow { SocialException(SocialErrorCode.NOT_FOUND, "로그인 정보 확인에 실패했습니다.") }
+        return toggleLike(memberId, member.username, resourceType, resourceId)
+    }
 
-        // 2. 타입을 통해 리소스 가져오기
-        val resource = resourceResolver!!.resolveResource(resourceType, resourceId)
+    /**
+     * 좋아요 토글 메서드 (인증된 멤버)
+     * 인증 정보의 멤버 이름을 사용하므로 멤버를 다시 조회하지 않으며,
+     * 대상 리소스는 작성자 ID 와 삭제 여부만 캐시에서 조회합니다.
+     *
+     * @param memberId, memberName, resourceType, resourceId
+     * @return LikeToggleResponse (DTO)
+     */
+    @Transactional
+    open fun toggleLike(
+        memberId: Long, memberName: String, resourceType: String, resourceId: Long?
+    ): LikeToggleResponse {
+        val sample = likeMetrics.start()
+        var success = false
+        try {
+            val response = toggle(memberId, memberName, resourceType, resourceId)
+            success = true
+            return response
+        } finally {
+            likeMetrics.recordToggle(sample, resourceType, success)
+        }
+    }
 
-        // 3. 본인의 컨텐츠인지 확인
-        if (ownerChecker!!.isOwner(member, resource)) {
+    private fun toggle(
+        memberId: Long, memberName: String, resourceType: String, resourceId: Long?
+    ): LikeToggleResponse {
+        // 1. 타입을 통해 대상 리소스의 작성자 확인
+        val target = resourceResolver.resolveTarget(resourceType, resourceId)
+
+        // 2. 본인의 컨텐츠인지 확인
+        if (target.ownerId == memberId) {
             throw SocialException(SocialErrorCode.CANNOT_PERFORM_ON_SELF, "자신의 컨텐츠에는 좋아요를 할 수 없습니다.")
         }
 
-        // 4. Redis 키 생성 및 리소스 타입 정규화
+        // 3. Redis 키 생성 및 리소스 타입 정규화
         val upperResourceType = resourceResolver.normalizeResourceType(resourceType)
         val likeKey = RedisKeyUtil.getLikeKey(upperResourceType, resourceId, memberId)
         val countKey = RedisKeyUtil.getLikeCountKey(upperResourceType, resourceId)
 
-        // 5. 현재 좋아요 상태 확인
-        val likeStateInfo = redisLikeService!!.getLikeState(
-            likeKey, memberId, resourceId, upperResourceType
-        )
-        val currentlyLiked = likeStateInfo.currentlyLiked
-        val isNewLike = likeStateInfo.isNewLike
-
-        // 6. 상태 토글
-        val newLikedState = !currentlyLiked
-
-        // 7. Redis 업데이트
-        val likeInfo = LikeInfo(
-            memberId,
-            resourceId,
-            upperResourceType,
-            if (isNewLike) LocalDateTime.now() else null,
-            LocalDateTime.now(),
-            newLikedState
+        // 4. 현재 상태 확인 / 상태 토글 / 좋아요 수 반영을 Redis 에서 한 번에 처리
+        val toggleResult = redisLikeService!!.toggle(
+            likeKey, countKey, memberId, resourceId, upperResourceType
         )
+        val likeInfo = toggleResult.likeInfo
+        val newLikedState = likeInfo.isActive
+        val isNewLike = toggleResult.isNewLike
 
-        // Redis에 좋아요 정보 저장 및 카운트 업데이트
-        redisLikeService.updateLikeInfo(likeKey, likeInfo)
-        redisLikeService.updateLikeCount(countKey, newLikedState)
-
-        // 8. 비동기로 DB 업데이트 스케줄링
+        // 5. 비동기로 DB 업데이트 스케줄링
         likeSyncManager!!.scheduleSyncToDatabase(memberId, resourceId, upperResourceType, newLikedState, isNewLike)
 
-        // 9. 알림 이벤트 발행
-        likeEventPublisher!!.publishLikeEvent(member, resource, resourceId, upperResourceType)
+        // 6. 게시물 좋아요인 경우 피드 버전 갱신 (인기 점수는 FeedScheduler 가 동기화된 좋아요 수로 다시 계산)
+        if (upperResourceType == "POST") {
+            feedVersionStore.bump(memberId)
+        }
 
-        // 10. 좋아요 수 조회
-        val likeCount = redisLikeService.getLikeCount(countKey)
+        // 7. 알림 이벤트 발행
+        likeEventPublisher!!.publishLikeEvent(memberName, target.ownerId, resourceId, upperResourceType, newLikedState)
 
-        return LikeConverter.toLikeResponse(likeInfo, likeCount)
+        return LikeConverter.toLikeResponse(likeInfo, toggleResult.likeCount)
     }
 }
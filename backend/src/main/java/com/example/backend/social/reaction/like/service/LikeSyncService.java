@@ -1,94 +1,132 @@
 package com.example.backend.social.reaction.like.service;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Queue;
-import java.util.concurrent.ConcurrentLinkedQueue;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.Map;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.connection.stream.RecordId;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 import com.example.backend.entity.LikeRepositoryCustomImpl;
+import com.example.backend.global.util.TransactionUtil;
 import com.example.backend.social.reaction.like.dto.LikeInfo;
+import com.example.backend.social.reaction.like.util.component.LikeCountSynchronizer;
+import com.example.backend.social.reaction.like.util.component.LikeMetrics;
+import com.example.backend.social.reaction.like.util.component.LikeSyncLog;
+import com.example.backend.social.reaction.like.util.component.LikedByLookup;
 
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
+@RequiredArgsConstructor
 public class LikeSyncService {
     private final LikeRepositoryCustomImpl likeRepositoryCustom;
-    private final RedisTemplate<String, Object> redisTemplate;
-
-    // 동기화 대기 중인 좋아요 목록을 저장할 큐
-    private final Queue<LikeInfo> pendingLikes = new ConcurrentLinkedQueue<>();
-    
-    // 마지막 동기화 시간
-    private AtomicLong lastSyncTime = new AtomicLong(System.currentTimeMillis());
-    
-    // 임계값 설정
-    private static final int BATCH_SIZE_THRESHOLD = 5;
-    private static final long TIME_THRESHOLD_MS = 30_000; // 30초
-
-    @Autowired
-    public LikeSyncService(LikeRepositoryCustomImpl likeRepositoryCustom,
-        @Qualifier("redisTemplate") RedisTemplate<String, Object> redisTemplate) {
-        this.likeRepositoryCustom = likeRepositoryCustom;
-        this.redisTemplate = redisTemplate;
-    }
-    
+    private final LikeSyncLog likeSyncLog;
+    private final LikeCountSynchronizer likeCountSynchronizer;
+    private final LikedByLookup likedByLookup;
+    private final LikeMetrics likeMetrics;
+
+    // 한 번에 DB 에 반영할 최대 좋아요 변경 수
+    private static final int BATCH_SIZE = 500;
+
+    // 반영에 계속 실패하는 항목을 데드 레터 스트림으로 옮길 전달 횟수
+    private static final long MAX_DELIVERIES = 10;
+
     /**
-     * 좋아요 동기화 큐에 추가
+     * 좋아요 동기화 로그에 추가
+     * 요청 스레드에서는 기록만 하며, DB 반영은 LikeSyncScheduler 가 처리합니다.
      */
     public void addToPendingSync(LikeInfo likeInfo) {
-        pendingLikes.add(likeInfo);
-        
-        // 임계값 체크 후 필요시 동기화 실행
-        if (shouldSync()) {
-            syncToDatabase();
-        }
-    }
-    
-    /**
-     * 동기화가 필요한지 체크
-     */
-    private boolean shouldSync() {
-        return pendingLikes.size() >= BATCH_SIZE_THRESHOLD || 
-               (System.currentTimeMillis() - lastSyncTime.get() >= TIME_THRESHOLD_MS);
+        likeSyncLog.append(likeInfo);
     }
-    
+
     /**
      * 데이터베이스 동기화 실행
+     * 이전에 실패한 항목을 먼저 담고, 남은 자리를 새 항목으로 채워 최대 BATCH_SIZE 개 반영합니다.
+     * 같은 (멤버, 리소스 타입, 리소스 ID) 에 대한 변경은 마지막 상태 하나로 병합하여 반영합니다.
+     * 로그의 ACK 와 좋아요 수 동기화 대상 기록은 트랜잭션 커밋 이후에 수행하므로,
+     * 반영에 실패하면 다음 실행에서 다시 처리됩니다.
+     *
+     * @return 처리할 항목이 더 남아있을 수 있으면 true
      */
     @Transactional
-    public void syncToDatabase() {
-        if (pendingLikes.isEmpty()) {
-            return;
+    public synchronized boolean syncToDatabase() {
+        moveExhaustedToDeadLetter();
+
+        List<LikeSyncLog.Entry> entries = new ArrayList<>(likeSyncLog.readPending(BATCH_SIZE));
+        if (entries.size() < BATCH_SIZE) {
+            entries.addAll(likeSyncLog.readNew(BATCH_SIZE - entries.size()));
+        }
+        if (entries.isEmpty()) {
+            return false;
         }
-        
-        log.info("Syncing {} likes to database", pendingLikes.size());
-        
-        // 큐에서 처리할 좋아요 목록 추출
-        List<LikeInfo> likesToSync = new ArrayList<>();
-        LikeInfo like;
-        while ((like = pendingLikes.poll()) != null) {
-            likesToSync.add(like);
+
+        List<RecordId> recordIds = new ArrayList<>(entries.size());
+        Map<LikeKey, LikeInfo> pendingByKey = new LinkedHashMap<>();
+        for (LikeSyncLog.Entry entry : entries) {
+            recordIds.add(entry.id());
+            if (entry.likeInfo() != null) {
+                pendingByKey.merge(LikeKey.of(entry.likeInfo()), entry.likeInfo(), LikeSyncService::coalesce);
+            }
         }
-        
+        List<LikeInfo> likesToSync = new ArrayList<>(pendingByKey.values());
+
+        Timer.Sample sample = likeMetrics.start();
         try {
-            // QueryDSL을 사용한 벌크 업데이트 실행
             int updatedCount = likeRepositoryCustom.bulkUpsertLikes(likesToSync);
-            log.info("Successfully synced {} likes to database", updatedCount);
+            likeMetrics.recordSyncBatch(sample, entries.size(), likesToSync);
+            log.info("Successfully synced {} likes to database ({} changes coalesced)",
+                updatedCount, entries.size() - likesToSync.size());
         } catch (Exception e) {
-            // 에러 발생 시 큐에 다시 추가
+            // 일부만 반영되지 않도록 롤백하고, ACK 하지 않은 항목은 다음 실행에서 다시 처리
             log.error("Failed to sync likes to database", e);
-            pendingLikes.addAll(likesToSync);
+            likeMetrics.recordSyncFailure("retry", entries.size());
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return false;
+        }
+
+        TransactionUtil.afterCommit(() -> {
+            likeSyncLog.acknowledge(recordIds);
+            likeCountSynchronizer.markDirty(likesToSync);
+            likedByLookup.applySynced(likesToSync);
+        });
+        return entries.size() == BATCH_SIZE;
+    }
+
+    /**
+     * 같은 좋아요에 대한 변경 병합 (로그 순서상 나중 변경의 상태를 사용)
+     * 배치 안에 신규 좋아요가 있었다면 생성일을 유지하여 한 번만 삽입되도록 합니다.
+     */
+    private static LikeInfo coalesce(LikeInfo previous, LikeInfo latest) {
+        return new LikeInfo(
+            latest.memberId(),
+            latest.resourceId(),
+            latest.resourceType(),
+            previous.createDate() != null ? previous.createDate() : latest.createDate(),
+            latest.modifyDate(),
+            latest.isActive()
+        );
+    }
+
+    private void moveExhaustedToDeadLetter() {
+        List<RecordId> exhausted = likeSyncLog.findExhausted(BATCH_SIZE, MAX_DELIVERIES);
+        if (!exhausted.isEmpty()) {
+            log.error("Moving {} likes that failed to sync {} times to dead letter: {}",
+                exhausted.size(), MAX_DELIVERIES, exhausted);
+            likeMetrics.recordSyncFailure("dead_letter", exhausted.size());
+            likeSyncLog.moveToDeadLetter(exhausted);
+        }
+    }
+
+    private record LikeKey(Long memberId, String resourceType, Long resourceId) {
+        static LikeKey of(LikeInfo likeInfo) {
+            return new LikeKey(likeInfo.memberId(), likeInfo.resourceType(), likeInfo.resourceId());
         }
-        
-        // 마지막 동기화 시간 업데이트
-        lastSyncTime.set(System.currentTimeMillis());
     }
 }
@@ -1,8 +1,10 @@
 package com.example.backend.social.reaction.like.util;
 
 public class RedisKeyUtil {
-	private static final String LIKE_KEY_FORMAT = "like:%s:%d:%d";
-	private static final String LIKE_COUNT_KEY_FORMAT = "likeCount:%s:%d";
+	// 좋아요 키와 좋아요 수 키는 토글 스크립트에서 함께 다루므로 리소스 기준 해시 태그로 같은 슬롯에 둔다
+	private static final String LIKE_KEY_FORMAT = "like:{%s:%d}:%d";
+	private static final String LIKE_COUNT_KEY_FORMAT = "likeCount:{%s:%d}";
+	private static final String LIKED_BY_KEY_FORMAT = "likedBy:%s:%d";
 
 	public static String getLikeKey(String resourceType, Long resourceId, Long memberId) {
 		return String.format(LIKE_KEY_FORMAT, resourceType, resourceId, memberId);
@@ -11,4 +13,8 @@ public class RedisKeyUtil {
 	public static String getLikeCountKey(String resourceType, Long resourceId) {
 		return String.format(LIKE_COUNT_KEY_FORMAT, resourceType, resourceId);
 	}
+
+	public static String getLikedByKey(String resourceType, Long memberId) {
+		return String.format(LIKED_BY_KEY_FORMAT, resourceType, memberId);
+	}
 }
@@ -0,0 +1,206 @@
+package com.example.backend.social.reaction.like.util.component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좋아요 수 분할 카운터
+ * 짧은 시간에 토글이 몰리는 리소스(hot) 의 좋아요 수를 STRIPE_COUNT 개의 분할 키로 나누어 증감합니다.
+ * hot 리소스의 증감은 인스턴스 안에서 LongAdder 로 모았다가 FLUSH_INTERVAL_MS 마다 임의의 분할 키에 한 번에 반영하며,
+ * 반영은 다른 스케줄 작업에 밀리지 않도록 전용 스레드에서 실행합니다.
+ * 좋아요 수는 항상 좋아요 수 키와 분할 키 값의 합으로 읽습니다.
+ * 토글이 COOL_DOWN 동안 임계값 아래로 유지되면 분할 키를 좋아요 수 키로 다시 합칩니다.
+ * 분할 키는 좋아요 수 키 뒤에 번호를 붙이므로 같은 해시 태그를 사용하여, 토글 스크립트에서 좋아요 수 키와 함께 합산할 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeCountStripes {
+    public static final int STRIPE_COUNT = 8;
+
+    // 인스턴스 기준 초당 토글 수가 이 값 이상이면 hot 리소스로 본다
+    private static final int HOT_THRESHOLD_PER_SECOND = 50;
+    private static final long WINDOW_MS = 1_000;
+    private static final long COOL_DOWN_MS = 30_000;
+    private static final long FLUSH_INTERVAL_MS = 5;
+    private static final Duration CACHE_TTL = Duration.ofDays(7);
+
+    private static final RedisScript<Long> COLLAPSE_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/like-count-collapse.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+
+    private final ScheduledExecutorService flushExecutor = Executors.newSingleThreadScheduledExecutor(
+        runnable -> Thread.ofPlatform().name("like-count-stripes").daemon(true).unstarted(runnable));
+
+    @PostConstruct
+    public void start() {
+        flushExecutor.scheduleWithFixedDelay(this::flush, FLUSH_INTERVAL_MS, FLUSH_INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 종료 시 남은 증감을 반영
+     */
+    @PreDestroy
+    public void shutdown() {
+        flushExecutor.shutdown();
+        try {
+            flushExecutor.awaitTermination(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    /**
+     * 좋아요 수 키와 분할 키 목록 (좋아요 수 키가 첫 번째)
+     */
+    public static List<String> keysOf(String countKey) {
+        List<String> keys = new ArrayList<>(STRIPE_COUNT + 1);
+        keys.add(countKey);
+        for (int stripe = 0; stripe < STRIPE_COUNT; stripe++) {
+            keys.add(countKey + ":" + stripe);
+        }
+        return keys;
+    }
+
+    /**
+     * 토글 발생을 기록하고, 증감을 인스턴스 안에서 모아서 반영해야 하는지 반환
+     */
+    public boolean recordToggle(String countKey) {
+        Counter counter = counters.computeIfAbsent(countKey, key -> new Counter());
+        return counter.hit(System.currentTimeMillis());
+    }
+
+    /**
+     * hot 리소스의 좋아요 수 증감을 모아둔다 (FLUSH_INTERVAL_MS 이내에 분할 키로 반영)
+     */
+    public void accumulate(String countKey, long delta) {
+        counters.computeIfAbsent(countKey, key -> new Counter()).pending.add(delta);
+    }
+
+    /**
+     * 아직 반영되지 않은 증감
+     */
+    public long pendingDelta(String countKey) {
+        Counter counter = counters.get(countKey);
+        return counter == null ? 0 : counter.pending.sum();
+    }
+
+    /**
+     * 모아둔 증감을 리소스마다 임의의 분할 키에 반영 (한 번의 파이프라인)
+     */
+    public void flush() {
+        Map<String, Long> deltas = new HashMap<>();
+        counters.forEach((countKey, counter) -> {
+            long delta = counter.pending.sumThenReset();
+            if (delta != 0) {
+                deltas.put(countKey, delta);
+            }
+        });
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection)connection;
+                deltas.forEach((countKey, delta) -> {
+                    String stripeKey = countKey + ":" + ThreadLocalRandom.current().nextInt(STRIPE_COUNT);
+                    stringConnection.incrBy(stripeKey, delta);
+                    stringConnection.expire(stripeKey, CACHE_TTL.toSeconds());
+                });
+                return null;
+            });
+        } catch (Exception e) {
+            // 반영하지 못한 증감은 다음 실행에서 다시 시도
+            deltas.forEach(this::accumulate);
+            log.error("좋아요 수 분할 키 반영 중 에러 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 토글이 잦아든 리소스의 분할 키를 좋아요 수 키로 합치고, 오래 사용하지 않은 카운터를 정리
+     */
+    @Scheduled(fixedDelay = 10_000)
+    public void collapseCooled() {
+        collapseCooled(System.currentTimeMillis());
+    }
+
+    void collapseCooled(long now) {
+        counters.forEach((countKey, counter) -> {
+            if (now - counter.lastHotAt < COOL_DOWN_MS || counter.pending.sum() != 0) {
+                return;
+            }
+            if (counter.striped) {
+                counter.striped = false;
+                collapse(countKey);
+                log.info("좋아요 수 분할 해제: {}", countKey);
+            }
+            // 정리하는 사이에 모인 증감은 새 카운터로 옮긴다
+            if (now - counter.lastHitAt >= COOL_DOWN_MS && counters.remove(countKey, counter)) {
+                long remaining = counter.pending.sumThenReset();
+                if (remaining != 0) {
+                    accumulate(countKey, remaining);
+                }
+            }
+        });
+    }
+
+    // 분할 키의 값을 좋아요 수 키로 옮긴다 (한 번의 스크립트 호출로 옮기므로 합이 잠시 작게 읽히지 않는다)
+    private void collapse(String countKey) {
+        stringRedisTemplate.execute(COLLAPSE_SCRIPT, keysOf(countKey), String.valueOf(CACHE_TTL.toSeconds()));
+    }
+
+    private static class Counter {
+        private final LongAdder pending = new LongAdder();
+        private long windowStart;
+        private int windowHits;
+        private volatile boolean hot;
+        private volatile boolean striped;
+        private volatile long lastHotAt;
+        private volatile long lastHitAt;
+
+        synchronized boolean hit(long now) {
+            lastHitAt = now;
+            if (now - windowStart >= WINDOW_MS) {
+                hot = windowHits >= HOT_THRESHOLD_PER_SECOND && now - windowStart < WINDOW_MS * 2;
+                windowStart = now;
+                windowHits = 0;
+            }
+            windowHits++;
+            if (windowHits >= HOT_THRESHOLD_PER_SECOND) {
+                hot = true;
+            }
+            if (hot) {
+                striped = true;
+                lastHotAt = now;
+            }
+            return hot;
+        }
+    }
+}
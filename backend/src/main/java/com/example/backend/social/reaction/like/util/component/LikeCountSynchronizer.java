@@ -4,11 +4,18 @@ import static com.example.backend.entity.QCommentEntity.*;
 import static com.example.backend.entity.QLikeEntity.*;
 import static com.example.backend.entity.QPostEntity.*;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.example.backend.social.reaction.like.dto.LikeInfo;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.jpa.JPAExpressions;
@@ -22,37 +29,126 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class LikeCountSynchronizer {
 
+    // 좋아요가 DB 에 반영되어 좋아요 수를 다시 계산해야 하는 리소스 ID
+    private static final String DIRTY_POST_KEY = "post:likeCount:dirty";
+    private static final String DIRTY_COMMENT_KEY = "comment:likeCount:dirty";
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_CHUNKS_PER_RUN = 20;
+
+    // 전체 동기화 시 한 번의 UPDATE 로 처리할 ID 범위
+    private static final long FULL_SYNC_ID_RANGE = 10_000;
+
     private final JPAQueryFactory queryFactory;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LikeMetrics likeMetrics;
+    private final TransactionTemplate transactionTemplate;
 
     /**
-     * 30초마다 Post 엔티티와 Comment 엔티티의 likeCount를 동기화
+     * DB 에 반영된 좋아요의 리소스를 좋아요 수 동기화 대상으로 기록합니다.
+     * LikeSyncService 가 배치 커밋 이후에 호출합니다.
+     */
+    public void markDirty(Collection<LikeInfo> likeInfos) {
+        String[] postIds = likeInfos.stream()
+            .filter(like -> "POST".equals(like.resourceType()))
+            .map(like -> String.valueOf(like.resourceId()))
+            .distinct()
+            .toArray(String[]::new);
+        String[] commentIds = likeInfos.stream()
+            .filter(like -> !"POST".equals(like.resourceType()))
+            .map(like -> String.valueOf(like.resourceId()))
+            .distinct()
+            .toArray(String[]::new);
+
+        if (postIds.length > 0) {
+            stringRedisTemplate.opsForSet().add(DIRTY_POST_KEY, postIds);
+        }
+        if (commentIds.length > 0) {
+            stringRedisTemplate.opsForSet().add(DIRTY_COMMENT_KEY, commentIds);
+        }
+    }
+
+    /**
+     * 5초마다 좋아요가 변경된 게시물 / 댓글의 likeCount 만 CHUNK_SIZE 개씩 동기화
+     * 청크마다 별도 트랜잭션으로 커밋하며, 커밋에 실패한 청크의 ID 는 다시 기록하여 다음 실행에서 처리합니다.
+     */
+    @Scheduled(fixedDelay = 5000)
+    public void synchronizeDirtyLikeCounts() {
+        long updatedPosts = synchronizeDirty(DIRTY_POST_KEY, ids -> likeMetrics.recordCountSync(
+            "dirty", "POST",
+            () -> synchronizePostLikeCounts(postEntity.isDeleted.isFalse().and(postEntity.id.in(ids)))));
+        long updatedComments = synchronizeDirty(DIRTY_COMMENT_KEY, ids -> likeMetrics.recordCountSync(
+            "dirty", "COMMENT",
+            () -> synchronizeCommentLikeCounts(commentEntity.isDeleted.isFalse().and(commentEntity.id.in(ids)))));
+
+        if (updatedPosts > 0 || updatedComments > 0) {
+            log.info("좋아요 수 동기화 완료: 게시물 {}회, 댓글{}회", updatedPosts, updatedComments);
+        }
+    }
+
+    /**
+     * 1시간마다 전체 Post 엔티티와 Comment 엔티티의 likeCount 를 동기화 (누락 보정용)
+     * ID 범위(FULL_SYNC_ID_RANGE) 단위로 나누어 범위마다 별도 트랜잭션으로 갱신합니다.
      */
     @Async
-    @Scheduled(fixedRate = 30000) // 30초마다 실행
-    @Transactional
+    @Scheduled(fixedDelay = 3_600_000, initialDelay = 600_000)
     public void synchronizeLikeCounts() {
-        log.info("========좋아요 동기화 시작========");
+        log.info("========좋아요 전체 동기화 시작========");
         try {
-            // Post 엔티티 likeCount 동기화
-            int updatedPosts = synchronizePostLikeCounts();
-            // Comment 엔티티 likeCount 동기화
-            int updatedComments = synchronizeCommentLikeCounts();
+            long updatedPosts = 0;
+            Long maxPostId = queryFactory.select(postEntity.id.max()).from(postEntity).fetchOne();
+            for (long from = 1; maxPostId != null && from <= maxPostId; from += FULL_SYNC_ID_RANGE) {
+                BooleanExpression scope =
+                    postEntity.isDeleted.isFalse().and(postEntity.id.between(from, from + FULL_SYNC_ID_RANGE - 1));
+                updatedPosts += likeMetrics.recordCountSync("full", "POST",
+                    () -> transactionTemplate.execute(status -> synchronizePostLikeCounts(scope)));
+            }
+
+            long updatedComments = 0;
+            Long maxCommentId = queryFactory.select(commentEntity.id.max()).from(commentEntity).fetchOne();
+            for (long from = 1; maxCommentId != null && from <= maxCommentId; from += FULL_SYNC_ID_RANGE) {
+                BooleanExpression scope = commentEntity.isDeleted.isFalse()
+                    .and(commentEntity.id.between(from, from + FULL_SYNC_ID_RANGE - 1));
+                updatedComments += likeMetrics.recordCountSync("full", "COMMENT",
+                    () -> transactionTemplate.execute(status -> synchronizeCommentLikeCounts(scope)));
+            }
 
-            log.info("좋아요 수 동기화 완료: 게시물 {}회, 댓글{}회",
+            log.info("좋아요 수 전체 동기화 완료: 게시물 {}회, 댓글{}회",
                     updatedPosts, updatedComments);
         } catch (Exception e) {
             log.error("좋아요 수 동기화 중 에러 발생: {}", e.getMessage(), e);
         }
     }
 
+    private long synchronizeDirty(String dirtyKey, Function<List<Long>, Long> updater) {
+        long updated = 0;
+        for (int chunk = 0; chunk < MAX_CHUNKS_PER_RUN; chunk++) {
+            List<String> dirtyIds = stringRedisTemplate.opsForSet().pop(dirtyKey, CHUNK_SIZE);
+            if (dirtyIds == null || dirtyIds.isEmpty()) {
+                break;
+            }
+
+            try {
+                List<Long> ids = dirtyIds.stream().map(Long::valueOf).toList();
+                updated += transactionTemplate.execute(status -> updater.apply(ids));
+            } catch (Exception e) {
+                stringRedisTemplate.opsForSet().add(dirtyKey, dirtyIds.toArray(String[]::new));
+                log.error("좋아요 수 동기화 중 에러 발생: {}", e.getMessage(), e);
+                break;
+            }
+        }
+        return updated;
+    }
+
     /**
      * 포스트 엔티티의 좋아요 수를 서브 쿼리를 이용해 동기화합니다.
-     * 각 포스트마다 likeEntity 테이블에서 실제 좋아요 카운트를 계산한 후,
+     * 대상 포스트마다 likeEntity 테이블에서 실제 좋아요 카운트를 계산한 후,
      * 현재 저장된 값과 다르면 업데이트합니다.
      *
+     * @param scope 동기화 대상 포스트 조건
      * @return 업데이트된 포스트 건수
      */
-    private int synchronizePostLikeCounts() {
+    private long synchronizePostLikeCounts(BooleanExpression scope) {
         // 포스트마다 좋아요 수를 계산하는 서브 쿼리
         NumberExpression<Long> likeCountSubQuery = Expressions.numberTemplate(
             Long.class,
@@ -66,28 +162,26 @@ public class LikeCountSynchronizer {
                 )
         );
 
-        // 삭제되지 않은 포스트 중, 서브 쿼리 결과와 현재 likeCount가 다른 포스트 업데이트
-        long updatedPosts = queryFactory
+        // 대상 포스트 중, 서브 쿼리 결과와 현재 likeCount가 다른 포스트 업데이트
+        return queryFactory
             .update(postEntity)
             .set(postEntity.likeCount, likeCountSubQuery)
             .where(
-                postEntity.isDeleted.isFalse(),
+                scope,
                 likeCountSubQuery.ne(postEntity.likeCount)
             )
             .execute();
-
-        log.info("게시글 {}개 -> 좋아요 수 동기화 완료", updatedPosts);
-        return (int) updatedPosts;
     }
 
     /**
      * 댓글 엔티티의 좋아요 수를 서브 쿼리를 이용해 동기화합니다.
-     * 각 댓글마다 likeEntity 테이블에서 실제 좋아요 카운트를 계산한 후,
-     * 현재 저장된 값과 다르면 업데이트합니다.
+     * 대상 댓글마다 likeEntity 테이블에서 실제 좋아요 카운트를 계산한 후,
+     * 현재 저장된 값과 다르면 업데이트합니다. (대댓글 좋아요는 REPLY 타입으로 저장됩니다)
      *
+     * @param scope 동기화 대상 댓글 조건
      * @return 업데이트된 댓글 건수
      */
-    private int synchronizeCommentLikeCounts() {
+    private long synchronizeCommentLikeCounts(BooleanExpression scope) {
         // 댓글마다 좋아요 수를 계산하는 서브 쿼리
         NumberExpression<Long> likeCountSubQuery = Expressions.numberTemplate(
             Long.class,
@@ -96,22 +190,19 @@ public class LikeCountSynchronizer {
                 .from(likeEntity)
                 .where(
                     likeEntity.resourceId.eq(commentEntity.id),
-                    likeEntity.resourceType.eq("COMMENT"),
+                    likeEntity.resourceType.in("COMMENT", "REPLY"),
                     likeEntity.isLiked.isTrue()
                 )
         );
 
-        // 삭제되지 않은 댓글 중, 서브 쿼리 결과와 현재 likeCount가 다른 댓글 업데이트
-        long updatedComments = queryFactory
+        // 대상 댓글 중, 서브 쿼리 결과와 현재 likeCount가 다른 댓글 업데이트
+        return queryFactory
             .update(commentEntity)
             .set(commentEntity.likeCount, likeCountSubQuery)
             .where(
-                commentEntity.isDeleted.isFalse(),
+                scope,
                 likeCountSubQuery.ne(commentEntity.likeCount)
             )
             .execute();
-
-        log.info("댓글/대댓글 {}개 -> 좋아요 수 동기화 완료", updatedComments);
-        return (int) updatedComments;
     }
 }
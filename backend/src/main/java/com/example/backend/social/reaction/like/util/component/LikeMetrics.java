@@ -0,0 +1,122 @@
+package com.example.backend.social.reaction.like.util.component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.example.backend.social.reaction.like.dto.LikeInfo;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 좋아요 처리 지표
+ * 좋아요 토글 / Redis 스크립트 / DB 동기화 / 좋아요 수 동기화 지표를 한 곳에서 기록합니다.
+ * 동기화 대기 항목 수와 지연 시간은 LikeSyncLog 의 like.sync.backlog / like.sync.lag 게이지로 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LikeMetrics {
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+    private static final Set<String> RESOURCE_TYPES = Set.of("POST", "COMMENT", "REPLY");
+
+    private final MeterRegistry meterRegistry;
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    /**
+     * 좋아요 토글 요청 처리 시간 (LikeService.toggleLike)
+     * 검증 전의 리소스 타입이므로 알 수 없는 값은 UNKNOWN 태그로 묶는다
+     */
+    public void recordToggle(Timer.Sample sample, String resourceType, boolean success) {
+        String type = resourceType == null ? "UNKNOWN" : resourceType.toUpperCase();
+        sample.stop(Timer.builder("like.toggle")
+            .description("좋아요 토글 처리 시간")
+            .tag("type", RESOURCE_TYPES.contains(type) ? type : "UNKNOWN")
+            .tag("outcome", success ? "success" : "failure")
+            .publishPercentiles(PERCENTILES)
+            .register(meterRegistry));
+    }
+
+    /**
+     * 좋아요 토글의 Redis 처리 시간 (토글 스크립트와 좋아요 리소스 Set 갱신을 합친 시간)
+     * @param coldMiss Redis 에 좋아요 상태가 없어 DB 조회 후 다시 실행한 경우
+     * @param striped 좋아요 수를 분할 키로 모아서 반영한 경우
+     */
+    public void recordRedisToggle(Timer.Sample sample, String resourceType, boolean coldMiss, boolean striped) {
+        sample.stop(Timer.builder("like.redis.toggle")
+            .description("좋아요 토글 Redis 처리 시간")
+            .tag("type", resourceType)
+            .tag("cache", coldMiss ? "miss" : "hit")
+            .tag("count", striped ? "striped" : "direct")
+            .publishPercentiles(PERCENTILES)
+            .register(meterRegistry));
+    }
+
+    /**
+     * DB 동기화 배치 크기 (리소스 타입별) 와 처리 시간
+     * @param entryCount 로그에서 읽은 항목 수 (병합 전)
+     */
+    public void recordSyncBatch(Timer.Sample sample, int entryCount, Collection<LikeInfo> synced) {
+        sample.stop(Timer.builder("like.sync.batch.duration")
+            .description("좋아요 DB 동기화 배치 처리 시간")
+            .publishPercentiles(PERCENTILES)
+            .register(meterRegistry));
+
+        Counter.builder("like.sync.coalesced")
+            .description("DB 반영 전에 병합된 좋아요 변경 수")
+            .register(meterRegistry)
+            .increment(entryCount - synced.size());
+
+        Map<String, Long> countByType = synced.stream()
+            .collect(Collectors.groupingBy(LikeInfo::resourceType, Collectors.counting()));
+        countByType.forEach((resourceType, count) -> DistributionSummary.builder("like.sync.batch.size")
+            .description("좋아요 DB 동기화 배치당 반영 행 수")
+            .tag("type", resourceType)
+            .publishPercentiles(PERCENTILES)
+            .register(meterRegistry)
+            .record(count));
+    }
+
+    /**
+     * DB 동기화 실패 (다음 실행에서 다시 처리) 와 재시도 한도 초과로 제외된 항목 수
+     */
+    public void recordSyncFailure(String reason, int count) {
+        Counter.builder("like.sync.failure")
+            .description("DB 동기화에 실패한 좋아요 변경 수")
+            .tag("reason", reason)
+            .register(meterRegistry)
+            .increment(count);
+    }
+
+    /**
+     * 좋아요 수 동기화로 갱신된 행 수와 처리 시간
+     * @param scope dirty (변경된 리소스만) / full (전체)
+     * @param resourceType POST / COMMENT
+     */
+    public long recordCountSync(String scope, String resourceType, LongSupplier sync) {
+        Timer.Sample sample = start();
+        long updated = sync.getAsLong();
+        sample.stop(Timer.builder("like.count.sync.duration")
+            .description("좋아요 수 동기화 처리 시간")
+            .tag("scope", scope)
+            .tag("type", resourceType)
+            .register(meterRegistry));
+        Counter.builder("like.count.sync.updated")
+            .description("좋아요 수 동기화로 갱신된 행 수")
+            .tag("scope", scope)
+            .tag("type", resourceType)
+            .register(meterRegistry)
+            .increment(updated);
+        return updated;
+    }
+}
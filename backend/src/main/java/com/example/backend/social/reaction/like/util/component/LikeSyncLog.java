@@ -0,0 +1,286 @@
+package com.example.backend.social.reaction.like.util.component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.social.reaction.like.dto.LikeInfo;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 좋아요 동기화 로그
+ * DB 에 반영할 좋아요 변경을 Redis Stream 에 순서대로 기록하고, 컨슈머 그룹으로 읽어 반영 후 ACK 합니다.
+ * ACK 된 항목은 바로 삭제하므로 스트림 길이가 곧 DB 에 반영되지 않은 좋아요 수입니다.
+ * 컨슈머 이름은 인스턴스마다 다르며, 종료된 인스턴스가 처리하지 못한 항목은 다른 인스턴스가 주기적으로 가져옵니다.
+ * 반영에 계속 실패하는 항목은 삭제하지 않고 데드 레터 스트림으로 옮깁니다.
+ */
+@Slf4j
+@Component
+public class LikeSyncLog {
+    private static final String STREAM_KEY = "likeSync:stream";
+    private static final String DEAD_LETTER_KEY = "likeSync:dead";
+    private static final String GROUP = "like-sync";
+
+    // 다른 컨슈머(이전 배포 인스턴스 등)가 읽고 처리하지 못한 항목을 가져올 최소 대기 시간
+    private static final Duration CLAIM_MIN_IDLE = Duration.ofMinutes(1);
+
+    // 미처리 항목이 없는 다른 컨슈머를 그룹에서 제거할 최소 대기 시간
+    private static final Duration CONSUMER_EXPIRE = Duration.ofHours(1);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final String consumerName;
+
+    public LikeSyncLog(
+        StringRedisTemplate stringRedisTemplate,
+        MeterRegistry meterRegistry,
+        @Value("${custom.like.sync.consumer:${HOSTNAME:like-sync}}") String consumerPrefix
+    ) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        // 같은 호스트 이름(또는 기본값)을 쓰는 인스턴스끼리 미처리 항목을 공유하지 않도록 실행마다 구분
+        this.consumerName = consumerPrefix + "-" + UUID.randomUUID().toString().substring(0, 8);
+
+        Gauge.builder("like.sync.backlog", this, LikeSyncLog::size)
+            .description("DB 에 반영되지 않은 좋아요 변경 수")
+            .register(meterRegistry);
+        Gauge.builder("like.sync.lag", this, LikeSyncLog::getLagMs)
+            .description("DB 에 반영되지 않은 가장 오래된 좋아요 변경의 경과 시간")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+    }
+
+    /**
+     * 좋아요 변경을 로그에 추가
+     */
+    public void append(LikeInfo likeInfo) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put("memberId", String.valueOf(likeInfo.memberId()));
+        fields.put("resourceId", String.valueOf(likeInfo.resourceId()));
+        fields.put("resourceType", likeInfo.resourceType());
+        fields.put("createDate", likeInfo.createDate() == null ? "" : likeInfo.createDate().toString());
+        fields.put("modifyDate", likeInfo.modifyDate().toString());
+        fields.put("isActive", String.valueOf(likeInfo.isActive()));
+
+        stringRedisTemplate.opsForStream().add(STREAM_KEY, fields);
+    }
+
+    /**
+     * 이 컨슈머가 읽었지만 아직 ACK 하지 않은 항목 조회 (실패한 배치 재시도 / 재시작 시 복구)
+     */
+    public List<Entry> readPending(int count) {
+        return read(count, ReadOffset.from("0"));
+    }
+
+    /**
+     * 아직 어떤 컨슈머도 읽지 않은 새 항목 조회
+     */
+    public List<Entry> readNew(int count) {
+        return read(count, ReadOffset.lastConsumed());
+    }
+
+    /**
+     * DB 반영이 끝난 항목을 ACK 후 삭제
+     */
+    public void acknowledge(List<RecordId> recordIds) {
+        if (recordIds.isEmpty()) {
+            return;
+        }
+        RecordId[] ids = recordIds.toArray(RecordId[]::new);
+        stringRedisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, ids);
+        stringRedisTemplate.opsForStream().delete(STREAM_KEY, ids);
+    }
+
+    /**
+     * 이 컨슈머의 미처리 항목 중 전달 횟수가 maxDeliveries 를 넘은 항목 ID 조회
+     */
+    public List<RecordId> findExhausted(int count, long maxDeliveries) {
+        PendingMessages pending = withGroup(() -> stringRedisTemplate.opsForStream()
+            .pending(STREAM_KEY, Consumer.from(GROUP, consumerName), Range.unbounded(), count), null);
+        if (pending == null) {
+            return List.of();
+        }
+
+        List<RecordId> exhausted = new ArrayList<>();
+        for (PendingMessage message : pending) {
+            if (message.getTotalDeliveryCount() > maxDeliveries) {
+                exhausted.add(message.getId());
+            }
+        }
+        return exhausted;
+    }
+
+    /**
+     * 전달 횟수를 넘긴 항목을 데드 레터 스트림으로 옮긴 뒤 ACK 후 삭제
+     * 원래 항목 ID 는 sourceId 필드로 남긴다
+     */
+    public void moveToDeadLetter(List<RecordId> recordIds) {
+        for (RecordId recordId : recordIds) {
+            List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+                .range(STREAM_KEY, Range.closed(recordId.getValue(), recordId.getValue()));
+            if (records == null || records.isEmpty()) {
+                continue;
+            }
+            Map<Object, Object> fields = new HashMap<>(records.get(0).getValue());
+            fields.put("sourceId", recordId.getValue());
+            stringRedisTemplate.opsForStream().add(DEAD_LETTER_KEY, fields);
+        }
+        acknowledge(recordIds);
+    }
+
+    /**
+     * 미처리 항목이 없고 CONSUMER_EXPIRE 이상 활동하지 않은 다른 컨슈머를 그룹에서 제거
+     * @return 제거한 컨슈머 수
+     */
+    public int removeIdleConsumers() {
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(STREAM_KEY))) {
+            return 0;
+        }
+        StreamInfo.XInfoConsumers consumers = withGroup(
+            () -> stringRedisTemplate.opsForStream().consumers(STREAM_KEY, GROUP), null);
+        if (consumers == null) {
+            return 0;
+        }
+
+        int removed = 0;
+        for (StreamInfo.XInfoConsumer consumer : consumers.stream().toList()) {
+            if (!consumerName.equals(consumer.consumerName())
+                && consumer.pendingCount() == 0
+                && consumer.idleTimeMs() >= CONSUMER_EXPIRE.toMillis()) {
+                stringRedisTemplate.opsForStream()
+                    .deleteConsumer(STREAM_KEY, Consumer.from(GROUP, consumer.consumerName()));
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * 다른 컨슈머가 CLAIM_MIN_IDLE 이상 처리하지 못한 항목을 이 컨슈머로 가져온다
+     * @return 가져온 항목 수
+     */
+    public int claimStale(int count) {
+        PendingMessages pending = withGroup(() -> stringRedisTemplate.opsForStream()
+            .pending(STREAM_KEY, GROUP, Range.unbounded(), count), null);
+        if (pending == null) {
+            return 0;
+        }
+
+        List<RecordId> stale = new ArrayList<>();
+        for (PendingMessage message : pending) {
+            if (!consumerName.equals(message.getConsumerName())
+                && message.getElapsedTimeSinceLastDelivery().compareTo(CLAIM_MIN_IDLE) >= 0) {
+                stale.add(message.getId());
+            }
+        }
+        if (stale.isEmpty()) {
+            return 0;
+        }
+
+        stringRedisTemplate.opsForStream()
+            .claim(STREAM_KEY, GROUP, consumerName, CLAIM_MIN_IDLE, stale.toArray(RecordId[]::new));
+        return stale.size();
+    }
+
+    public long size() {
+        Long size = stringRedisTemplate.opsForStream().size(STREAM_KEY);
+        return size == null ? 0 : size;
+    }
+
+    private long getLagMs() {
+        List<MapRecord<String, Object, Object>> oldest = stringRedisTemplate.opsForStream()
+            .range(STREAM_KEY, Range.unbounded(), Limit.limit().count(1));
+        if (oldest == null || oldest.isEmpty()) {
+            return 0;
+        }
+        return Math.max(0, System.currentTimeMillis() - oldest.get(0).getId().getTimestamp());
+    }
+
+    private List<Entry> read(int count, ReadOffset offset) {
+        List<MapRecord<String, Object, Object>> records = withGroup(() -> stringRedisTemplate.opsForStream().read(
+            Consumer.from(GROUP, consumerName),
+            StreamReadOptions.empty().count(count),
+            StreamOffset.create(STREAM_KEY, offset)), null);
+        if (records == null || records.isEmpty()) {
+            return List.of();
+        }
+
+        List<Entry> entries = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            // 이미 삭제된 항목은 미처리 목록에 ID 만 남아있으므로 ACK 대상으로만 전달한다
+            Map<Object, Object> fields = record.getValue();
+            entries.add(new Entry(record.getId(), fields == null || fields.isEmpty() ? null : toLikeInfo(fields)));
+        }
+        return entries;
+    }
+
+    /**
+     * 컨슈머 그룹이 없는 경우 (최초 실행, Redis 초기화 등) 그룹을 만들고 defaultValue 를 반환한다
+     */
+    private <T> T withGroup(Supplier<T> action, T defaultValue) {
+        try {
+            return action.get();
+        } catch (RedisSystemException e) {
+            if (!isNoGroup(e)) {
+                throw e;
+            }
+            createGroup();
+            return defaultValue;
+        }
+    }
+
+    private void createGroup() {
+        try {
+            stringRedisTemplate.opsForStream().createGroup(STREAM_KEY, ReadOffset.from("0"), GROUP);
+            log.info("좋아요 동기화 컨슈머 그룹 생성: {}", GROUP);
+        } catch (RedisSystemException e) {
+            // 다른 인스턴스가 먼저 만든 경우
+            if (!String.valueOf(e.getMostSpecificCause().getMessage()).contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    private static boolean isNoGroup(RedisSystemException e) {
+        return String.valueOf(e.getMostSpecificCause().getMessage()).contains("NOGROUP");
+    }
+
+    private static LikeInfo toLikeInfo(Map<Object, Object> fields) {
+        String createDate = (String)fields.get("createDate");
+        return new LikeInfo(
+            Long.valueOf((String)fields.get("memberId")),
+            Long.valueOf((String)fields.get("resourceId")),
+            (String)fields.get("resourceType"),
+            createDate == null || createDate.isEmpty() ? null : LocalDateTime.parse(createDate),
+            LocalDateTime.parse((String)fields.get("modifyDate")),
+            Boolean.parseBoolean((String)fields.get("isActive"))
+        );
+    }
+
+    /**
+     * 로그 항목 (likeInfo 가 null 이면 이미 삭제된 항목)
+     */
+    public record Entry(RecordId id, LikeInfo likeInfo) { }
+}
@@ -0,0 +1,140 @@
+package com.example.backend.social.reaction.like.util.component;
+
+import static com.example.backend.entity.QLikeEntity.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.example.backend.social.reaction.like.dto.LikeInfo;
+import com.example.backend.social.reaction.like.util.RedisKeyUtil;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 좋아요 여부 일괄 조회
+ * 멤버가 좋아요한 리소스 ID 를 리소스 타입별 Redis Set 으로 캐싱하고, 여러 리소스의 좋아요 여부를 한 번에 조회합니다.
+ * Set 에는 로딩 여부를 나타내는 LOADED_MARKER 가 함께 들어있어, 비어있는 Set 과 캐싱되지 않은 멤버를 구분합니다.
+ * 캐싱 이후의 변경은 좋아요 토글(applyToggle) 과 DB 반영(applySynced) 시점에 Set 이 있는 경우에만 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class LikedByLookup {
+    // 리소스 ID 는 1부터 시작하므로 0 을 로딩 표시로 사용한다
+    private static final String LOADED_MARKER = "0";
+    private static final Duration SET_TTL = Duration.ofDays(1);
+
+    private static final RedisScript<Long> APPLY_SCRIPT =
+        RedisScript.of(new ClassPathResource("scripts/liked-by-apply.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JPAQueryFactory queryFactory;
+
+    /**
+     * 멤버가 각 리소스에 좋아요 했는지 조회
+     * Redis 에는 SMISMEMBER 한 번으로 조회하며, 캐싱되지 않은 멤버인 경우에만 DB 에서 Set 을 만듭니다.
+     *
+     * @param memberId 멤버 ID
+     * @param resourceType 리소스 타입 (POST, COMMENT, REPLY)
+     * @param ids 조회할 리소스 ID 목록
+     * @return ids 의 i 번째 리소스에 좋아요 했으면 i 번째 비트가 켜진 BitSet
+     */
+    public BitSet likedBy(Long memberId, String resourceType, List<Long> ids) {
+        BitSet liked = new BitSet(ids.size());
+        if (ids.isEmpty()) {
+            return liked;
+        }
+
+        String key = RedisKeyUtil.getLikedByKey(resourceType, memberId);
+        Object[] members = new Object[ids.size() + 1];
+        members[0] = LOADED_MARKER;
+        for (int i = 0; i < ids.size(); i++) {
+            members[i + 1] = String.valueOf(ids.get(i));
+        }
+
+        Map<Object, Boolean> result = stringRedisTemplate.opsForSet().isMember(key, members);
+        if (result == null || !Boolean.TRUE.equals(result.get(LOADED_MARKER))) {
+            Set<Long> likedIds = load(key, memberId, resourceType);
+            for (int i = 0; i < ids.size(); i++) {
+                if (likedIds.contains(ids.get(i))) {
+                    liked.set(i);
+                }
+            }
+            return liked;
+        }
+
+        for (int i = 0; i < ids.size(); i++) {
+            if (Boolean.TRUE.equals(result.get(String.valueOf(ids.get(i))))) {
+                liked.set(i);
+            }
+        }
+        return liked;
+    }
+
+    /**
+     * 좋아요 토글 결과를 캐싱된 Set 에 적용 (Set 이 없으면 다음 조회 시 DB 에서 만든다)
+     */
+    public void applyToggle(Long memberId, String resourceType, Long resourceId, boolean liked) {
+        stringRedisTemplate.execute(APPLY_SCRIPT, List.of(RedisKeyUtil.getLikedByKey(resourceType, memberId)),
+            String.valueOf(resourceId), liked ? "1" : "0");
+    }
+
+    /**
+     * DB 에 반영된 좋아요 상태를 캐싱된 Set 에 적용
+     * 캐싱 직전에 DB 에 반영되지 않았던 변경이 Set 에서 누락되지 않도록 LikeSyncService 가 커밋 이후에 호출합니다.
+     */
+    public void applySynced(Collection<LikeInfo> likeInfos) {
+        if (likeInfos.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(likeInfos.size());
+        List<String> args = new ArrayList<>(likeInfos.size() * 2);
+        for (LikeInfo likeInfo : likeInfos) {
+            keys.add(RedisKeyUtil.getLikedByKey(likeInfo.resourceType(), likeInfo.memberId()));
+            args.add(String.valueOf(likeInfo.resourceId()));
+            args.add(likeInfo.isActive() ? "1" : "0");
+        }
+        stringRedisTemplate.execute(APPLY_SCRIPT, keys, args.toArray());
+    }
+
+    private Set<Long> load(String key, Long memberId, String resourceType) {
+        List<Long> likedIds = queryFactory.select(likeEntity.resourceId)
+            .from(likeEntity)
+            .where(
+                likeEntity.member.id.eq(memberId),
+                likeEntity.resourceType.eq(resourceType),
+                likeEntity.isLiked.isTrue()
+            )
+            .fetch();
+
+        String[] members = new String[likedIds.size() + 1];
+        members[0] = LOADED_MARKER;
+        for (int i = 0; i < likedIds.size(); i++) {
+            members[i + 1] = String.valueOf(likedIds.get(i));
+        }
+
+        // 동시에 만들어진 Set 과 합쳐질 수 있으나, 어긋난 항목은 다음 DB 반영(applySynced) 시점에 보정된다
+        stringRedisTemplate.executePipelined((RedisCallback<Object>)connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection)connection;
+            stringConnection.sAdd(key, members);
+            stringConnection.expire(key, SET_TTL.toSeconds());
+            return null;
+        });
+
+        return new HashSet<>(likedIds);
+    }
+}
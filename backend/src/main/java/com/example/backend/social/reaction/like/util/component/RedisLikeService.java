@@ -1,18 +1,24 @@
 package com.example.backend.social.reaction.like.util.component;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
-import java.util.Optional;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
-import com.example.backend.entity.LikeEntity;
 import com.example.backend.entity.LikeRepository;
 import com.example.backend.social.reaction.like.dto.LikeInfo;
-import com.example.backend.social.reaction.like.dto.LikeStateInfo;
+import com.example.backend.social.reaction.like.dto.LikeToggleResult;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 
 @Component
@@ -22,30 +28,89 @@ public class RedisLikeService {
     private final StringRedisTemplate stringRedisTemplate;
     private final LikeRepository likeRepository;
     private final ObjectMapper objectMapper;
+    private final LikeCountStripes likeCountStripes;
+    private final LikedByLookup likedByLookup;
+    private final LikeMetrics likeMetrics;
     private static final Duration CACHE_TTL = Duration.ofDays(7);
 
-    public LikeStateInfo getLikeState(String likeKey, Long memberId, Long resourceId, String resourceType) {
-        boolean currentlyLiked = false;
-        boolean isNewLike = false;
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    private static final RedisScript<List<Long>> TOGGLE_SCRIPT =
+        (RedisScript)RedisScript.of(new ClassPathResource("scripts/like-toggle.lua"), List.class);
 
-        Boolean hasKey = redisTemplate.hasKey(likeKey);
-        if (Boolean.TRUE.equals(hasKey)) {
-            // Redis에 키가 있는 경우
-            LikeInfo likeInfo = redisTemplate.opsForValue().get(likeKey);
-            if (likeInfo != null) {
-                currentlyLiked = likeInfo.isActive();
-            }
-        } else {
-            // Redis에 없는 경우 DB 확인
-            Optional<LikeEntity> likeOp = likeRepository.findByMemberIdAndResourceIdAndResourceType(memberId, resourceId, resourceType);
-            if (likeOp.isPresent()) {
-                currentlyLiked = likeOp.get().isLiked();
-            } else {
-                isNewLike = true;
-            }
+    // 토글 스크립트에 전달하는 DB 조회 결과
+    private static final String FALLBACK_UNKNOWN = "";
+    private static final String FALLBACK_LIKED = "L";
+    private static final String FALLBACK_UNLIKED = "U";
+    private static final String FALLBACK_NEW = "N";
+    private static final long COLD_MISS = -1L;
+
+    /**
+     * 좋아요 토글
+     * 상태 확인, 상태 반전, 좋아요 수 증감, TTL 갱신, 좋아요 수 합산은 Lua 스크립트 한 번으로 처리합니다.
+     * 좋아요 키와 좋아요 수 키(분할 키 포함) 는 같은 해시 태그를 사용하므로 Redis Cluster 에서도 한 스크립트로 다룰 수 있습니다.
+     * Redis 에 좋아요 상태가 없는 경우에만 DB 를 조회한 뒤 조회 결과와 함께 스크립트를 다시 실행합니다.
+     * 멤버의 좋아요 리소스 Set (LikedByLookup) 은 멤버 기준 키로 다른 슬롯에 있으므로 스크립트 이후에 따로 갱신합니다.
+     *
+     * @param likeKey, countKey, memberId, resourceId, resourceType
+     * @return LikeToggleResult (반영된 좋아요 정보, 좋아요 수, 신규 좋아요 여부)
+     */
+    public LikeToggleResult toggle(String likeKey, String countKey, Long memberId, Long resourceId,
+        String resourceType) {
+        LocalDateTime now = LocalDateTime.now();
+        LikeInfo unliked = new LikeInfo(memberId, resourceId, resourceType, null, now, false);
+        LikeInfo liked = new LikeInfo(memberId, resourceId, resourceType, null, now, true);
+        LikeInfo likedNew = new LikeInfo(memberId, resourceId, resourceType, now, now, true);
+
+        // 토글이 몰리는 리소스는 좋아요 수 증감을 모아서 분할 키에 반영한다
+        boolean deferCount = likeCountStripes.recordToggle(countKey);
+
+        // Redis 에 상태가 있으면 신규 좋아요일 수 없으므로 신규 좋아요 상태 값은 전달하지 않는다
+        Timer.Sample sample = likeMetrics.start();
+        List<Long> result = executeToggle(likeKey, countKey, FALLBACK_UNKNOWN, deferCount, unliked, liked, null);
+        boolean coldMiss = result.get(0) == COLD_MISS;
+        if (coldMiss) {
+            String fallback = likeRepository.findByMemberIdAndResourceIdAndResourceType(
+                    memberId, resourceId, resourceType)
+                .map(like -> like.isLiked() ? FALLBACK_LIKED : FALLBACK_UNLIKED)
+                .orElse(FALLBACK_NEW);
+            result = executeToggle(likeKey, countKey, fallback, deferCount, unliked, liked, likedNew);
         }
 
-        return new LikeStateInfo(currentlyLiked, isNewLike);
+        boolean newState = result.get(0) == 1L;
+        boolean isNewLike = result.get(1) == 1L;
+        LikeInfo applied = !newState ? unliked : isNewLike ? likedNew : liked;
+
+        likedByLookup.applyToggle(memberId, resourceType, resourceId, newState);
+        likeMetrics.recordRedisToggle(sample, resourceType, coldMiss, deferCount);
+
+        long likeCount = result.get(2);
+        if (deferCount) {
+            likeCountStripes.accumulate(countKey, newState ? 1 : -1);
+            likeCount = Math.max(0, likeCount + likeCountStripes.pendingDelta(countKey));
+        }
+        return new LikeToggleResult(applied, likeCount, isNewLike);
+    }
+
+    private List<Long> executeToggle(String likeKey, String countKey, String fallback, boolean deferCount,
+        LikeInfo unliked, LikeInfo liked, LikeInfo likedNew) {
+        List<String> keys = new ArrayList<>(LikeCountStripes.STRIPE_COUNT + 2);
+        keys.add(likeKey);
+        keys.addAll(LikeCountStripes.keysOf(countKey));
+        List<Long> result = stringRedisTemplate.execute(TOGGLE_SCRIPT, keys,
+            String.valueOf(CACHE_TTL.toSeconds()), fallback,
+            serialize(unliked), serialize(liked), likedNew == null ? "" : serialize(likedNew),
+            deferCount ? "0" : "1");
+        if (result == null || result.size() != 3) {
+            throw new IllegalStateException("좋아요 토글 스크립트 실행 결과가 올바르지 않습니다.");
+        }
+        return result;
+    }
+
+    // 좋아요 키의 값은 likeInfoRedisTemplate 으로도 읽으므로 같은 직렬화 방식을 사용한다
+    @SuppressWarnings("unchecked")
+    private String serialize(LikeInfo likeInfo) {
+        byte[] bytes = ((RedisSerializer<LikeInfo>)redisTemplate.getValueSerializer()).serialize(likeInfo);
+        return new String(bytes, StandardCharsets.UTF_8);
     }
 
     public void updateLikeInfo(String likeKey, LikeInfo likeInfo) {
@@ -62,11 +127,23 @@ public class RedisLikeService {
         stringRedisTemplate.expire(countKey, CACHE_TTL);
     }
 
+    /**
+     * 좋아요 수 조회 (좋아요 수 키와 분할 키 값의 합에 아직 반영되지 않은 증감을 더한 값)
+     */
     public Long getLikeCount(String countKey) {
-        String countStr = stringRedisTemplate.opsForValue().get(countKey);
-        if (countStr != null) {
-            return Long.parseLong(countStr);
+        return Math.max(0, sumLikeCount(countKey));
+    }
+
+    private long sumLikeCount(String countKey) {
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(LikeCountStripes.keysOf(countKey));
+        long count = likeCountStripes.pendingDelta(countKey);
+        if (values != null) {
+            for (String value : values) {
+                if (value != null) {
+                    count += Long.parseLong(value);
+                }
+            }
         }
-        return 0L;
+        return count;
     }
 }
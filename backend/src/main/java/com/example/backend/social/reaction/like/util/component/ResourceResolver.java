@@ -1,31 +1,106 @@
 package com.example.backend.social.reaction.like.util.component;
 
+import static com.example.backend.entity.QCommentEntity.*;
+import static com.example.backend.entity.QPostEntity.*;
+
+import java.time.Duration;
+
 import org.springframework.stereotype.Component;
 
-import com.example.backend.entity.CommentRepository;
-import com.example.backend.entity.PostRepository;
+import com.example.backend.global.util.TransactionUtil;
 import com.example.backend.social.exception.SocialErrorCode;
 import com.example.backend.social.exception.SocialException;
+import com.example.backend.social.reaction.like.dto.LikeTarget;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
+/**
+ * 좋아요 대상 리소스 조회
+ * 좋아요에 필요한 작성자 ID 와 삭제 여부만 프로젝션으로 조회하고, 로컬 캐시에 보관합니다.
+ * 작성자는 바뀌지 않으므로 삭제 시점에만 캐시를 비우며 (evictPost / evictComment, 트랜잭션 커밋 이후),
+ * 다른 인스턴스에서 삭제된 경우는 TARGET_TTL 이내에 반영됩니다.
+ * 존재하지 않는 리소스는 MISSING 으로 캐싱하여 반복 요청이 DB 를 조회하지 않도록 하며,
+ * 이후 같은 ID 로 생성될 수 있으므로 MISSING_TTL 동안만 유지합니다.
+ */
 @Component
-@RequiredArgsConstructor
 public class ResourceResolver {
-    private final PostRepository postRepository;
-    private final CommentRepository commentRepository;
-    
-    public Object resolveResource(String resourceType, Long resourceId) {
-        return switch (resourceType) {
-            case "post" -> postRepository.findById(resourceId)
-                .orElseThrow(() -> new SocialException(SocialErrorCode.NOT_FOUND, "게시물을 찾을 수 없습니다."));
-            case "comment", "reply" -> commentRepository.findById(resourceId)
-                .orElseThrow(() -> new SocialException(SocialErrorCode.NOT_FOUND, "댓글을 찾을 수 없습니다."));
+    private static final long TARGET_CACHE_SIZE = 100_000;
+    private static final Duration TARGET_TTL = Duration.ofMinutes(10);
+    private static final Duration MISSING_TTL = Duration.ofSeconds(10);
+
+    private final JPAQueryFactory queryFactory;
+
+    // 키 : POST:{id} / COMMENT:{id} (대댓글은 댓글 테이블에 저장된다)
+    private final Cache<String, LikeTarget> targetCache;
+
+    public ResourceResolver(JPAQueryFactory queryFactory, MeterRegistry meterRegistry) {
+        this.queryFactory = queryFactory;
+        this.targetCache = Caffeine.newBuilder()
+            .maximumSize(TARGET_CACHE_SIZE)
+            .expireAfter(Expiry.creating((String key, LikeTarget target) ->
+                target == LikeTarget.MISSING ? MISSING_TTL : TARGET_TTL))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, targetCache, "like.target");
+    }
+
+    /**
+     * 좋아요 대상 리소스의 작성자 ID 조회 (삭제된 리소스는 찾을 수 없음으로 처리)
+     */
+    public LikeTarget resolveTarget(String resourceType, Long resourceId) {
+        LikeTarget target = switch (resourceType) {
+            case "post" -> targetCache.get("POST:" + resourceId, key -> findPostTarget(resourceId));
+            case "comment", "reply" -> targetCache.get("COMMENT:" + resourceId, key -> findCommentTarget(resourceId));
             default -> throw new IllegalArgumentException("리소스 타입을 확인할 수 없습니다: " + resourceType);
         };
+
+        if (target.deleted()) {
+            String message = "post".equals(resourceType) ? "게시물을 찾을 수 없습니다." : "댓글을 찾을 수 없습니다.";
+            throw new SocialException(SocialErrorCode.NOT_FOUND, message);
+        }
+        return target;
     }
-    
+
+    /**
+     * 삭제된 게시물을 캐시에서 제거 (트랜잭션 안에서 호출된 경우 커밋 이후 제거)
+     * 커밋 전에 제거하면 그 사이 다른 요청이 삭제 전 상태를 다시 캐싱할 수 있다
+     */
+    public void evictPost(Long postId) {
+        TransactionUtil.afterCommit(() -> targetCache.invalidate("POST:" + postId));
+    }
+
+    /**
+     * 삭제된 댓글을 캐시에서 제거 (트랜잭션 안에서 호출된 경우 커밋 이후 제거)
+     */
+    public void evictComment(Long commentId) {
+        TransactionUtil.afterCommit(() -> targetCache.invalidate("COMMENT:" + commentId));
+    }
+
     public String normalizeResourceType(String resourceType) {
         return resourceType.toUpperCase();
     }
+
+    private LikeTarget findPostTarget(Long resourceId) {
+        Tuple row = queryFactory.select(postEntity.member.id, postEntity.isDeleted)
+            .from(postEntity)
+            .where(postEntity.id.eq(resourceId))
+            .fetchOne();
+        return row == null ? LikeTarget.MISSING : new LikeTarget(row.get(postEntity.member.id),
+            Boolean.TRUE.equals(row.get(postEntity.isDeleted)));
+    }
+
+    private LikeTarget findCommentTarget(Long resourceId) {
+        Tuple row = queryFactory.select(commentEntity.member.id, commentEntity.isDeleted)
+            .from(commentEntity)
+            .where(commentEntity.id.eq(resourceId))
+            .fetchOne();
+        return row == null ? LikeTarget.MISSING : new LikeTarget(row.get(commentEntity.member.id),
+            Boolean.TRUE.equals(row.get(commentEntity.isDeleted)));
+    }
 }
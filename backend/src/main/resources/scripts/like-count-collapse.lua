@@ -0,0 +1,18 @@
+-- 분할(stripe)된 좋아요 수를 좋아요 수 키로 합치고 분할 키를 삭제한다
+-- 한 번의 호출로 옮기므로 옮기는 도중의 합이 읽히지 않는다 (분할 키는 좋아요 수 키와 같은 해시 태그를 사용)
+-- KEYS[1] = 좋아요 수 키, KEYS[2..] = 분할 키
+-- ARGV[1] = TTL (초)
+-- 반환 : 합친 값
+local moved = 0
+for i = 2, #KEYS do
+    local value = redis.call('GET', KEYS[i])
+    if value then
+        moved = moved + tonumber(value)
+        redis.call('DEL', KEYS[i])
+    end
+end
+if moved ~= 0 then
+    redis.call('INCRBY', KEYS[1], moved)
+    redis.call('EXPIRE', KEYS[1], tonumber(ARGV[1]))
+end
+return moved
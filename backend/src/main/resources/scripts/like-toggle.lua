@@ -0,0 +1,74 @@
+-- 좋아요 토글 : 현재 상태 확인 -> 상태 반전 -> 좋아요 수 증감 -> TTL 갱신 -> 좋아요 수 합산을 한 번의 호출로 원자적으로 처리한다
+-- 좋아요 키, 좋아요 수 키, 분할 키는 같은 해시 태그({타입:ID}) 를 사용하므로 Redis Cluster 에서도 같은 슬롯에 있다
+-- KEYS[1] = 좋아요 키, KEYS[2] = 좋아요 수 키, KEYS[3..] = 좋아요 수 분할 키
+-- ARGV[1] = TTL (초)
+-- ARGV[2] = DB 조회 결과 ('' : 미조회, 'L' : 좋아요, 'U' : 좋아요 취소, 'N' : 데이터 없음)
+-- ARGV[3] = 좋아요 취소 상태 값, ARGV[4] = 좋아요 상태 값, ARGV[5] = 신규 좋아요 상태 값
+-- ARGV[6] = 좋아요 수 반영 방식 ('1' : 좋아요 수 키에 바로 반영, '0' : 호출 측이 모아서 분할 키에 반영)
+-- 반환 : {새 상태 (1 / 0), 신규 여부 (1 / 0), 좋아요 수 키와 분할 키 값의 합}
+--        Redis 에 상태가 없고 DB 조회 결과도 전달되지 않은 경우 아무것도 변경하지 않고 {-1, 0, 0}
+local ttl = tonumber(ARGV[1])
+local fallback = ARGV[2]
+local raw = redis.call('GET', KEYS[1])
+
+local liked
+local isNew = false
+if raw then
+    local info = cjson.decode(raw)
+    local active = info['isActive']
+    if active == nil then
+        active = info['active']
+    end
+    liked = active == true
+elseif fallback == '' then
+    return {-1, 0, 0}
+else
+    liked = fallback == 'L'
+    isNew = fallback == 'N'
+end
+
+local newState = not liked
+local value = ARGV[3]
+if newState then
+    if isNew then
+        value = ARGV[5]
+    else
+        value = ARGV[4]
+    end
+end
+redis.call('SET', KEYS[1], value, 'EX', ttl)
+
+if ARGV[6] == '1' then
+    local delta = -1
+    if newState then
+        delta = 1
+    end
+    redis.call('INCRBY', KEYS[2], delta)
+    redis.call('EXPIRE', KEYS[2], ttl)
+end
+
+local count = 0
+for i = 2, #KEYS do
+    local stored = redis.call('GET', KEYS[i])
+    if stored then
+        count = count + tonumber(stored)
+    end
+end
+if count < 0 then
+    -- 좋아요 수 키가 만료된 뒤의 취소 등으로 합이 음수가 되지 않도록 좋아요 수 키에서 보정
+    redis.call('INCRBY', KEYS[2], -count)
+    redis.call('EXPIRE', KEYS[2], ttl)
+    count = 0
+end
+
+if newState then
+    newState = 1
+else
+    newState = 0
+end
+if isNew then
+    isNew = 1
+else
+    isNew = 0
+end
+return {newState, isNew, count}
@@ -0,0 +1,13 @@
+-- DB 에 반영된 좋아요 상태를 멤버의 좋아요 리소스 Set 에 적용한다 (Set 이 캐싱되어 있는 경우에만)
+-- KEYS[i] = 멤버의 좋아요 리소스 Set 키
+-- ARGV[2i - 1] = 리소스 ID, ARGV[2i] = 좋아요 상태 ('1' / '0')
+for i, key in ipairs(KEYS) do
+    if redis.call('EXISTS', key) == 1 then
+        if ARGV[2 * i] == '1' then
+            redis.call('SADD', key, ARGV[2 * i - 1])
+        else
+            redis.call('SREM', key, ARGV[2 * i - 1])
+        end
+    end
+end
+return 0
@@ -0,0 +1,113 @@
+package com.example.backend.content.notification.sse;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.example.backend.content.notification.dto.NotificationResponse;
+import com.example.backend.content.notification.type.NotificationType;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+@ExtendWith(MockitoExtension.class)
+class RedisNotificationBackplaneTest {
+
+	@Mock
+	SseConnectionPool sseConnectionPool;
+	@Mock
+	SseConnectionRegistry sseConnectionRegistry;
+	@Mock
+	StringRedisTemplate stringRedisTemplate;
+	@Mock
+	RedisMessageListenerContainer listenerContainer;
+
+	// 스프링 부트 기본 ObjectMapper 와 같은 설정
+	ObjectMapper objectMapper = new ObjectMapper()
+		.registerModule(new JavaTimeModule())
+		.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+	RedisNotificationBackplane backplane;
+
+	@BeforeEach
+	void setUp() {
+		when(sseConnectionRegistry.getNodeId()).thenReturn("node-a");
+		backplane = new RedisNotificationBackplane(
+			sseConnectionPool, sseConnectionRegistry, stringRedisTemplate, objectMapper, listenerContainer);
+	}
+
+	@Test
+	@DisplayName("연결이 이 노드에 있으면 발행하지 않고 바로 전송")
+	void publishLocal() {
+		// given
+		NotificationResponse response = response();
+		when(sseConnectionRegistry.findNodes(1L)).thenReturn(Set.of("node-a"));
+
+		// when
+		backplane.publish(1L, response);
+
+		// then
+		verify(sseConnectionPool, times(1)).sendNotification(1L, response);
+		verify(stringRedisTemplate, never()).convertAndSend(anyString(), any());
+	}
+
+	@Test
+	@DisplayName("연결이 다른 노드에 있으면 해당 노드 채널로만 발행하고, 수신한 노드가 전송")
+	void publishRemote() throws Exception {
+		// given
+		NotificationResponse response = response();
+		when(sseConnectionRegistry.findNodes(1L)).thenReturn(Set.of("node-b"));
+
+		// when
+		backplane.publish(1L, response);
+
+		// then
+		ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+		verify(stringRedisTemplate, times(1)).convertAndSend(eq("sse:node:node-b"), payload.capture());
+		verify(sseConnectionPool, never()).sendNotification(anyLong(), any());
+
+		// when - node-b 에서 수신
+		backplane.onMessage(new DefaultMessage(
+			"sse:node:node-b".getBytes(StandardCharsets.UTF_8),
+			((String)payload.getValue()).getBytes(StandardCharsets.UTF_8)), null);
+
+		// then
+		verify(sseConnectionPool, times(1)).sendNotification(1L, response);
+	}
+
+	@Test
+	@DisplayName("연결이 없으면 발행하지 않는다")
+	void publishNoConnection() {
+		// given
+		when(sseConnectionRegistry.findNodes(1L)).thenReturn(Set.of());
+
+		// when
+		backplane.publish(1L, response());
+
+		// then
+		verifyNoInteractions(sseConnectionPool, stringRedisTemplate);
+	}
+
+	private NotificationResponse response() {
+		return NotificationResponse.builder()
+			.notificationId(1L)
+			.type(NotificationType.LIKE)
+			.targetId(2L)
+			.message("A님이 당신의 게시물에 좋아요를 눌렀습니다.")
+			.createdAt(LocalDateTime.of(2025, 3, 26, 12, 0))
+			.build();
+	}
+}
@@ -0,0 +1,116 @@
+package com.example.backend.content.notification.sse;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import com.example.backend.content.notification.dto.NotificationResponse;
+import com.example.backend.content.notification.type.NotificationType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SseConnectionRegistryTest {
+
+	private static final String MEMBER = "1";
+	private static final String BROWSER = "chrome";
+
+	StringRedisTemplate stringRedisTemplate;
+	SetOperations<String, String> setOperations;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		stringRedisTemplate = mock(StringRedisTemplate.class);
+		setOperations = mock(SetOperations.class);
+		when(stringRedisTemplate.opsForSet()).thenReturn(setOperations);
+	}
+
+	@Test
+	@DisplayName("마지막 연결이 끊어져도 위치는 유지 시간이 지난 뒤에 해제")
+	void lingerAfterDisconnect() {
+		// given
+		SseConnectionRegistry lingering = new SseConnectionRegistry(stringRedisTemplate, "node", 60_000);
+		SseConnectionRegistry expired = new SseConnectionRegistry(stringRedisTemplate, "node", 0);
+
+		// when
+		lingering.markConnected(MEMBER);
+		lingering.register(MEMBER);
+		lingering.markDisconnected(MEMBER);
+		lingering.refresh();
+
+		// then
+		verify(setOperations, never()).remove(anyString(), any());
+
+		// when
+		expired.markConnected(MEMBER);
+		expired.register(MEMBER);
+		expired.markDisconnected(MEMBER);
+		expired.refresh();
+
+		// then
+		verify(setOperations, times(1)).remove("sse:nodes:" + MEMBER, expired.getNodeId());
+	}
+
+	@Test
+	@DisplayName("연결이 끊어진 동안 발행된 알림은 Last-Event-ID 로 재연결할 때 재전송")
+	void replayAfterReconnect() {
+		// given - 연결된 상태에서 알림 하나를 받음
+		SseConnectionRegistry registry = new SseConnectionRegistry(stringRedisTemplate, "node", 60_000);
+		SseReplayBuffer replayBuffer = new SseReplayBuffer(registry, new SimpleMeterRegistry(), 32, 60_000);
+		SseConnectionPool pool = new SseConnectionPool(registry, mock(SseHeartbeatWheel.class), replayBuffer);
+		RedisNotificationBackplane backplane = new RedisNotificationBackplane(
+			pool, registry, stringRedisTemplate, new ObjectMapper(), mock(RedisMessageListenerContainer.class));
+		when(setOperations.members("sse:nodes:" + MEMBER)).thenReturn(Set.of(registry.getNodeId()));
+
+		SseConnection first = connection(null);
+		pool.add(MEMBER, BROWSER, first);
+		NotificationResponse delivered = response(1L);
+		backplane.publish(1L, delivered);
+
+		ArgumentCaptor<String> deliveredId = ArgumentCaptor.forClass(String.class);
+		verify(first, times(1)).sendMessage(eq("message"), deliveredId.capture(), eq(delivered));
+
+		// when - 연결이 끊어진 동안 알림 발행 후 재연결
+		pool.remove(first);
+		NotificationResponse missed = response(2L);
+		backplane.publish(1L, missed);
+
+		SseConnection second = connection(deliveredId.getValue());
+		pool.add(MEMBER, BROWSER, second);
+
+		// then
+		verify(setOperations, never()).remove(anyString(), any());
+		verify(second, times(1)).sendMessage(eq("message"), anyString(), eq(missed));
+		verify(second, never()).sendMessage(anyString(), anyString(), eq(delivered));
+		verify(second, never()).sendMessage(eq(SseReplayBuffer.RESYNC_EVENT), anyString());
+	}
+
+	private SseConnection connection(String lastEventId) {
+		SseConnection connection = mock(SseConnection.class);
+		when(connection.getUniqueKey()).thenReturn(MEMBER);
+		when(connection.getBrowserName()).thenReturn(BROWSER);
+		when(connection.getLastEventId()).thenReturn(lastEventId);
+		return connection;
+	}
+
+	private NotificationResponse response(Long notificationId) {
+		return NotificationResponse.builder()
+			.notificationId(notificationId)
+			.type(NotificationType.LIKE)
+			.targetId(2L)
+			.message("A님이 당신의 게시물에 좋아요를 눌렀습니다.")
+			.createdAt(LocalDateTime.of(2025, 3, 26, 12, 0))
+			.build();
+	}
+}
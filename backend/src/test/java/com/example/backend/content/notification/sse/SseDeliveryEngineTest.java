@@ -0,0 +1,90 @@
+package com.example.backend.content.notification.sse;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SseDeliveryEngineTest {
+
+	private static final int QUEUE_CAPACITY = 2;
+
+	SimpleMeterRegistry meterRegistry;
+	SseDeliveryEngine engine;
+	SseEmitter sseEmitter;
+
+	// writer 가 첫 이벤트 전송 중에 멈춰 있도록 한다 (느린 클라이언트)
+	CountDownLatch sending;
+	CountDownLatch release;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		meterRegistry = new SimpleMeterRegistry();
+		engine = new SseDeliveryEngine(meterRegistry, QUEUE_CAPACITY);
+		sseEmitter = mock(SseEmitter.class);
+		sending = new CountDownLatch(1);
+		release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			sending.countDown();
+			release.await();
+			return null;
+		}).when(sseEmitter).send(any(SseEmitter.SseEventBuilder.class));
+	}
+
+	@AfterEach
+	void tearDown() {
+		release.countDown();
+	}
+
+	@Test
+	@DisplayName("대기 중인 heartbeat 가 있으면 새 heartbeat 는 합쳐진다")
+	void coalesce() throws Exception {
+		// given
+		SseDeliveryEngine.Outbox outbox = engine.open("test", sseEmitter);
+		outbox.offer("message", "first");
+		assertThat(sending.await(1, TimeUnit.SECONDS)).isTrue();
+
+		// when
+		outbox.offer("heartbeat", "thump");
+		outbox.offer("heartbeat", "thump");
+
+		// then
+		assertThat(meterRegistry.get("sse.dropped").tag("reason", "coalesced").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("sse.queue.depth").gauge().value()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("큐가 가득 차면 오래된 메시지를 버리고, 큐 크기만큼 버려지면 연결을 종료한다")
+	void dropOldestAndEvict() throws Exception {
+		// given
+		SseDeliveryEngine.Outbox outbox = engine.open("test", sseEmitter);
+		outbox.offer("message", "first");
+		assertThat(sending.await(1, TimeUnit.SECONDS)).isTrue();
+		outbox.offer("message", "2");
+		outbox.offer("message", "3");
+
+		// when - 가득 찬 큐에 추가
+		outbox.offer("message", "4");
+
+		// then - 가장 오래된 메시지를 버리고 추가
+		assertThat(meterRegistry.get("sse.dropped").tag("reason", "overflow").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("sse.evicted").counter().count()).isZero();
+
+		// when - 전송하지 못한 채 큐 크기만큼 버려짐
+		outbox.offer("message", "5");
+
+		// then
+		assertThat(meterRegistry.get("sse.evicted").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("sse.connections").gauge().value()).isZero();
+		verify(sseEmitter, timeout(1000)).complete();
+	}
+}
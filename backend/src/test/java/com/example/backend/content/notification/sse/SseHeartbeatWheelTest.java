@@ -0,0 +1,97 @@
+package com.example.backend.content.notification.sse;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SseHeartbeatWheelTest {
+
+	// 100ms tick 3칸
+	private static final long HEARTBEAT_MS = 300;
+	private static final int WHEEL_SIZE = 3;
+
+	SimpleMeterRegistry meterRegistry;
+	SseHeartbeatWheel wheel;
+	SseConnectionPoolIfs<SseConnection> pool;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		wheel = new SseHeartbeatWheel(meterRegistry, HEARTBEAT_MS);
+		pool = mock(SseConnectionPoolIfs.class);
+	}
+
+	@Test
+	@DisplayName("한 바퀴를 돌면 모든 연결에 heartbeat 를 한 번씩 보낸다")
+	void heartbeatOncePerRound() {
+		// given
+		List<SseConnection> connections = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			SseConnection connection = connection(false);
+			connections.add(connection);
+			wheel.schedule(connection);
+		}
+
+		// when
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			wheel.tick();
+		}
+
+		// then
+		connections.forEach(connection ->
+			verify(connection, times(1)).sendMessage("heartbeat", "thump"));
+	}
+
+	@Test
+	@DisplayName("종료된 연결은 heartbeat 를 보내지 않고 휠과 풀에서 정리한다")
+	void reapClosed() {
+		// given
+		SseConnection closed = connection(true);
+		wheel.schedule(closed);
+
+		// when
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			wheel.tick();
+		}
+
+		// then
+		verify(closed, never()).sendMessage(anyString(), any());
+		verify(pool, times(1)).remove(closed);
+		assertThat(wheel.size()).isZero();
+		assertThat(meterRegistry.get("sse.reaped").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("cancel 된 연결에는 heartbeat 를 보내지 않는다")
+	void cancel() {
+		// given
+		SseConnection connection = connection(false);
+		wheel.schedule(connection);
+
+		// when
+		wheel.cancel(connection);
+		for (int i = 0; i < WHEEL_SIZE; i++) {
+			wheel.tick();
+		}
+
+		// then
+		verify(connection, never()).sendMessage(anyString(), any());
+		assertThat(wheel.size()).isZero();
+	}
+
+	private SseConnection connection(boolean closed) {
+		SseConnection connection = mock(SseConnection.class);
+		when(connection.isClosed()).thenReturn(closed);
+		when(connection.getSseConnectionPoolIfs()).thenReturn(pool);
+		return connection;
+	}
+}
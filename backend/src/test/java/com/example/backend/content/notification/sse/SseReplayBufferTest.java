@@ -0,0 +1,101 @@
+package com.example.backend.content.notification.sse;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class SseReplayBufferTest {
+
+	private static final int CAPACITY = 3;
+	private static final String MEMBER = "1";
+
+	SimpleMeterRegistry meterRegistry;
+	SseReplayBuffer replayBuffer;
+	SseConnection connection;
+
+	@BeforeEach
+	void setUp() {
+		SseConnectionRegistry sseConnectionRegistry = mock(SseConnectionRegistry.class);
+		when(sseConnectionRegistry.getNodeId()).thenReturn("node-a");
+		meterRegistry = new SimpleMeterRegistry();
+		replayBuffer = new SseReplayBuffer(sseConnectionRegistry, meterRegistry, CAPACITY, 60_000);
+		connection = mock(SseConnection.class);
+	}
+
+	@Test
+	@DisplayName("Last-Event-ID 이후의 알림만 순서대로 재전송")
+	void replay() {
+		// given
+		List<String> ids = publish("a", "b", "c");
+		Runnable register = mock(Runnable.class);
+
+		// when
+		replayBuffer.subscribe(MEMBER, ids.get(0), register, connection);
+
+		// then
+		InOrder inOrder = inOrder(register, connection);
+		inOrder.verify(register).run();
+		inOrder.verify(connection).sendMessage("message", ids.get(1), "b");
+		inOrder.verify(connection).sendMessage("message", ids.get(2), "c");
+		verify(connection, never()).sendMessage("message", ids.get(0), "a");
+		assertThat(meterRegistry.get("sse.replayed").counter().count()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("Last-Event-ID 가 없으면 등록만 한다")
+	void noLastEventId() {
+		// given
+		publish("a");
+
+		// when
+		replayBuffer.subscribe(MEMBER, null, () -> { }, connection);
+
+		// then
+		verifyNoInteractions(connection);
+	}
+
+	@Test
+	@DisplayName("버퍼에서 밀려난 ID 이면 resync 를 보낸다")
+	void resyncOverflow() {
+		// given
+		List<String> ids = publish("a", "b", "c", "d", "e");
+
+		// when - a 이후의 b 는 이미 밀려남
+		replayBuffer.subscribe(MEMBER, ids.get(0), () -> { }, connection);
+
+		// then
+		verify(connection, times(1)).sendMessage(SseReplayBuffer.RESYNC_EVENT, ids.get(0));
+		verify(connection, never()).sendMessage(eq("message"), anyString(), any());
+		assertThat(meterRegistry.get("sse.resync").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("다른 노드에서 발급한 ID 이면 resync 를 보낸다")
+	void resyncOtherNode() {
+		// given
+		publish("a");
+
+		// when
+		replayBuffer.subscribe(MEMBER, "node-b:1", () -> { }, connection);
+
+		// then
+		verify(connection, times(1)).sendMessage(SseReplayBuffer.RESYNC_EVENT, "node-b:1");
+	}
+
+	private List<String> publish(String... messages) {
+		List<String> ids = new ArrayList<>();
+		for (String message : messages) {
+			replayBuffer.publish(MEMBER, message, entry -> ids.add(entry.id()));
+		}
+		return ids;
+	}
+}
@@ -0,0 +1,140 @@
+package com.example.backend.content.notification.writer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.example.backend.content.notification.type.NotificationType;
+import com.example.backend.entity.NotificationEntity;
+import com.example.backend.entity.NotificationRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class NotificationWriteBufferTest {
+
+	private static final int BATCH_SIZE = 3;
+
+	SimpleMeterRegistry meterRegistry;
+	NotificationRepository notificationRepository;
+	NotificationWriteBuffer writeBuffer;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		notificationRepository = mock(NotificationRepository.class);
+		NotificationIdAllocator idAllocator = mock(NotificationIdAllocator.class);
+		AtomicLong sequence = new AtomicLong(100);
+		when(idAllocator.nextId()).thenAnswer(invocation -> sequence.incrementAndGet());
+
+		writeBuffer = new NotificationWriteBuffer(
+			notificationRepository, idAllocator, meterRegistry, BATCH_SIZE, 100);
+	}
+
+	@Test
+	@DisplayName("추가한 알림은 ID 와 생성 시간이 바로 할당되고, 배치 크기만큼 쌓이면 한 번에 저장")
+	void batchInsert() {
+		// when
+		NotificationEntity first = writeBuffer.add(notification("1"));
+		writeBuffer.add(notification("2"));
+
+		// then - 아직 저장하지 않음
+		assertThat(first.getId()).isEqualTo(101L);
+		assertThat(first.getCreateDate()).isNotNull();
+		verify(notificationRepository, never()).bulkInsertNotifications(anyList());
+
+		// when
+		writeBuffer.add(notification("3"));
+
+		// then
+		verify(notificationRepository, times(1)).bulkInsertNotifications(argThat(batch -> batch.size() == 3));
+		assertThat(meterRegistry.get("notification.write.pending").gauge().value()).isZero();
+	}
+
+	@Test
+	@DisplayName("주기적인 flush 는 배치 크기보다 적게 쌓인 알림도 저장")
+	void flush() {
+		// given
+		writeBuffer.add(notification("1"));
+
+		// when
+		writeBuffer.flush();
+
+		// then
+		verify(notificationRepository, times(1)).bulkInsertNotifications(argThat(batch -> batch.size() == 1));
+	}
+
+	@Test
+	@DisplayName("배치 저장이 계속 실패하면 한 건씩 저장하고, 실패한 알림만 버린다")
+	void fallbackToSingleInsert() {
+		// given
+		NotificationEntity broken = notification("broken");
+		NotificationEntity valid = notification("valid");
+		writeBuffer.add(broken);
+		writeBuffer.add(valid);
+		when(notificationRepository.bulkInsertNotifications(anyList())).thenAnswer(invocation -> {
+			List<NotificationEntity> batch = invocation.getArgument(0);
+			if (batch.contains(broken)) {
+				throw new IllegalStateException("duplicate key");
+			}
+			return batch.size();
+		});
+
+		// when
+		writeBuffer.flush();
+
+		// then
+		verify(notificationRepository, times(1)).bulkInsertNotifications(List.of(valid));
+		assertThat(meterRegistry.get("notification.write.dropped").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("저장 대기 중인 알림을 읽음 처리하면 읽음 상태로 저장")
+	void markReadPending() {
+		// given
+		NotificationEntity notification = writeBuffer.add(notification("1"));
+
+		// when
+		boolean pending = writeBuffer.markReadPending(notification.getId(), notification.getMemberId());
+		writeBuffer.flush();
+
+		// then
+		assertThat(pending).isTrue();
+		verify(notificationRepository, times(1))
+			.bulkInsertNotifications(argThat(batch -> batch.size() == 1 && batch.get(0).isRead()));
+
+		// 저장된 뒤에는 대기 중인 알림이 아니다
+		assertThat(writeBuffer.markReadPending(notification.getId(), notification.getMemberId())).isFalse();
+	}
+
+	@Test
+	@DisplayName("저장 대기 중인 같은 리소스의 좋아요 알림에 새로 좋아요 한 멤버를 합쳐서 저장")
+	void mergeLikePending() {
+		// given
+		NotificationEntity like = writeBuffer.add(NotificationEntity.createLike("2명", 1L, 10L, "POST", 2));
+
+		// when
+		NotificationEntity merged = writeBuffer.mergeLikePending(1L, 10L, "POST", 3, count -> count + "명");
+		NotificationEntity otherType = writeBuffer.mergeLikePending(1L, 10L, "COMMENT", 1, count -> count + "명");
+		writeBuffer.flush();
+
+		// then
+		assertThat(merged).isSameAs(like);
+		assertThat(otherType).isNull();
+		verify(notificationRepository, times(1)).bulkInsertNotifications(argThat(batch -> batch.size() == 1
+			&& batch.get(0).getActorCount() == 5 && batch.get(0).getContent().equals("5명")));
+
+		// 저장된 뒤에는 대기 중인 알림이 아니다
+		assertThat(writeBuffer.mergeLikePending(1L, 10L, "POST", 1, count -> count + "명")).isNull();
+	}
+
+	private NotificationEntity notification(String message) {
+		return NotificationEntity.create(message, 1L, NotificationType.FOLLOW, 2L);
+	}
+}
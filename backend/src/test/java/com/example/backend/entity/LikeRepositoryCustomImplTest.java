@@ -0,0 +1,97 @@
+package com.example.backend.entity;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.backend.identity.member.service.MemberService;
+import com.example.backend.social.reaction.like.dto.LikeInfo;
+
+@SpringBootTest
+@Transactional
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+class LikeRepositoryCustomImplTest {
+
+	@Autowired
+	private LikeRepositoryCustomImpl likeRepositoryCustom;
+
+	@Autowired
+	private MemberService memberService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private MemberEntity member1;
+	private MemberEntity member2;
+
+	@BeforeEach
+	void setUp() {
+		jdbcTemplate.update("DELETE FROM likes");
+		member1 = memberService.join("likeMember1", "password", "like1@test.com");
+		member2 = memberService.join("likeMember2", "password", "like2@test.com");
+	}
+
+	@Test
+	@DisplayName("없는 좋아요는 삽입하고, 있는 좋아요는 상태만 갱신한다")
+	void bulkUpsertLikes() {
+		// given
+		LocalDateTime createDate = LocalDateTime.now().minusMinutes(1).withNano(0);
+		likeRepositoryCustom.bulkUpsertLikes(List.of(
+			new LikeInfo(member1.getId(), 1L, "POST", createDate, createDate, true),
+			new LikeInfo(member2.getId(), 1L, "POST", createDate, createDate, true)));
+
+		// then - 삽입
+		assertThat(countLikes()).isEqualTo(2);
+		assertThat(isLiked(member1.getId(), 1L, "POST")).isTrue();
+		assertThat(isLiked(member2.getId(), 1L, "POST")).isTrue();
+
+		// when - member1 은 취소, member2 는 같은 상태로 다시 반영, 같은 ID 의 댓글 좋아요는 새로 삽입
+		LocalDateTime modifyDate = LocalDateTime.now().withNano(0);
+		int upserted = likeRepositoryCustom.bulkUpsertLikes(List.of(
+			new LikeInfo(member1.getId(), 1L, "POST", null, modifyDate, false),
+			new LikeInfo(member2.getId(), 1L, "POST", null, modifyDate, true),
+			new LikeInfo(member1.getId(), 1L, "COMMENT", null, modifyDate, true)));
+
+		// then
+		assertThat(upserted).isEqualTo(3);
+		assertThat(countLikes()).isEqualTo(3);
+		assertThat(isLiked(member1.getId(), 1L, "POST")).isFalse();
+		assertThat(isLiked(member2.getId(), 1L, "POST")).isTrue();
+		assertThat(isLiked(member1.getId(), 1L, "COMMENT")).isTrue();
+
+		// 갱신된 행은 생성 시간을 유지하고 수정 시간만 바뀐다
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT create_date FROM likes WHERE member_id = ? AND resource_id = ? AND resource_type = ?",
+			LocalDateTime.class, member1.getId(), 1L, "POST")).isEqualTo(createDate);
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT updated_date FROM likes WHERE member_id = ? AND resource_id = ? AND resource_type = ?",
+			LocalDateTime.class, member1.getId(), 1L, "POST")).isEqualTo(modifyDate);
+	}
+
+	@Test
+	@DisplayName("빈 목록은 쿼리를 실행하지 않는다")
+	void bulkUpsertEmpty() {
+		assertThat(likeRepositoryCustom.bulkUpsertLikes(List.of())).isZero();
+		assertThat(countLikes()).isZero();
+	}
+
+	private int countLikes() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM likes", Integer.class);
+	}
+
+	private boolean isLiked(Long memberId, Long resourceId, String resourceType) {
+		return jdbcTemplate.queryForObject(
+			"SELECT is_liked FROM likes WHERE member_id = ? AND resource_id = ? AND resource_type = ?",
+			Boolean.class, memberId, resourceId, resourceType);
+	}
+}
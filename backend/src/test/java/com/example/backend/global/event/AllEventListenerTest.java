@@ -1,6 +1,5 @@
 package com.example.backend.global.event;
 
-import static org.assertj.core.api.AssertionsForClassTypes.*;
 import static org.mockito.Mockito.*;
 
 import org.junit.jupiter.api.DisplayName;
@@ -10,8 +9,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import com.example.backend.content.notification.exception.NotificationErrorCode;
-import com.example.backend.content.notification.exception.NotificationException;
+import com.example.backend.content.notification.service.NotificationService;
 import com.example.backend.content.notification.type.NotificationType;
 
 /**
@@ -24,6 +22,9 @@ class AllEventListenerTest {
 	@Mock
 	NotificationService notificationService;
 
+	@Mock
+	LikeNotificationAggregator likeNotificationAggregator;
+
 	@InjectMocks
 	LikeEventListener likeEventListener;
 
@@ -34,7 +35,7 @@ class AllEventListenerTest {
 	CommentEventListener commentEventListener;
 
 	@Test
-	@DisplayName("like 이벤트 정상 처리")
+	@DisplayName("like 이벤트는 알림 묶음 처리로 전달")
 	void test1() {
 		// given
 		LikeEvent likeEvent = getLikeEvent();
@@ -43,49 +44,8 @@ class AllEventListenerTest {
 		likeEventListener.handleLikeEvent(likeEvent);
 
 		// then
-		verify(notificationService, times(1))
-			.createAndSendNotification(1L, 1L, NotificationType.LIKE, "A님이 당신의 게시물에 좋아요를 눌렀습니다.");
-	}
-
-	@Test
-	@DisplayName("예외 시 3회 까지 재시도 후 에러 발생")
-	void test2() {
-		// given
-		LikeEvent likeEvent = getLikeEvent();
-
-		doThrow(new NotificationException(NotificationErrorCode.FAILED_SEND))
-			.when(notificationService)
-			.createAndSendNotification(anyLong(), anyLong(), any(), anyString());
-
-		// when
-		// then
-		assertThatThrownBy(() -> likeEventListener.handleLikeEvent(likeEvent))
-			.isInstanceOf(NotificationException.class)
-			.hasMessageContaining("알림 전송에 실패하였습니다.");
-
-		verify(notificationService, times(3))
-			.createAndSendNotification(anyLong(), anyLong(), any(), anyString());
-	}
-
-	@Test
-	@DisplayName("인터럽트 발생시 FAILED_SEND 발생")
-	void test3() {
-		// given
-		LikeEvent likeEvent = getLikeEvent();
-
-		doAnswer(invocationOnMock -> {
-			Thread.currentThread().interrupt();
-			throw new NotificationException(NotificationErrorCode.FAILED_SEND);
-		}).when(notificationService).createAndSendNotification(anyLong(), anyLong(), any(), anyString());
-
-		// when
-		// then
-		assertThatThrownBy(() -> likeEventListener.handleLikeEvent(likeEvent))
-			.isInstanceOf(NotificationException.class)
-			.hasMessageContaining("알림 전송에 실패하였습니다.");
-
-		verify(notificationService, times(1))
-			.createAndSendNotification(1L, 1L, NotificationType.LIKE, "A님이 당신의 게시물에 좋아요를 눌렀습니다.");
+		verify(likeNotificationAggregator, times(1)).add(likeEvent);
+		verifyNoInteractions(notificationService);
 	}
 
 	@Test
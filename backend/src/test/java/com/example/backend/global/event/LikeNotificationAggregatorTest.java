@@ -0,0 +1,139 @@
+package com.example.backend.global.event;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.function.IntFunction;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.backend.content.notification.service.NotificationService;
+import com.example.backend.entity.NotificationEntity;
+
+@ExtendWith(MockitoExtension.class)
+class LikeNotificationAggregatorTest {
+
+	@Mock
+	NotificationService notificationService;
+
+	LikeNotificationAggregator aggregator;
+
+	@BeforeEach
+	void setUp() {
+		// 창이 바로 닫히도록 0ms 로 설정
+		aggregator = new LikeNotificationAggregator(notificationService, 0);
+	}
+
+	@Test
+	@DisplayName("같은 리소스의 좋아요는 하나의 알림으로 묶인다")
+	void aggregate() {
+		// given
+		aggregator.add(LikeEvent.create("A", 1L, 10L, "POST", true));
+		aggregator.add(LikeEvent.create("B", 1L, 10L, "POST", true));
+		aggregator.add(LikeEvent.create("C", 1L, 10L, "POST", true));
+
+		// when
+		aggregator.flush();
+
+		// then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<IntFunction<String>> messageOf = ArgumentCaptor.forClass(IntFunction.class);
+		verify(notificationService, times(1))
+			.mergeLikeNotification(eq(1L), eq(10L), eq("POST"), eq(3), messageOf.capture());
+		verify(notificationService, times(1)).sendNotification(eq(1L), any());
+		assertThat(messageOf.getValue().apply(3)).isEqualTo("C님, B님 외 1명이 당신의 게시물에 좋아요를 눌렀습니다.");
+	}
+
+	@Test
+	@DisplayName("같은 창 안에서 좋아요 후 취소하면 알림을 보내지 않는다")
+	void dropLikeThenUnlike() {
+		// given
+		aggregator.add(LikeEvent.create("A", 1L, 10L, "POST", true));
+		aggregator.add(LikeEvent.create("A", 1L, 10L, "POST", false));
+		aggregator.add(LikeEvent.create("B", 1L, 11L, "COMMENT", false));
+
+		// when
+		aggregator.flush();
+
+		// then
+		verifyNoInteractions(notificationService);
+	}
+
+	@Test
+	@DisplayName("알림 저장에 실패한 창은 다시 넣어 다음 flush 에서 저장하며, 그 사이의 좋아요도 합친다")
+	void retryFailedWindow() {
+		// given
+		NotificationEntity notification = mock(NotificationEntity.class);
+		when(notificationService.mergeLikeNotification(eq(1L), eq(10L), eq("POST"), anyInt(), any()))
+			.thenThrow(new IllegalStateException("db down"))
+			.thenReturn(notification);
+		aggregator.add(LikeEvent.create("A", 1L, 10L, "POST", true));
+		aggregator.flush();
+
+		// when
+		aggregator.add(LikeEvent.create("B", 1L, 10L, "POST", true));
+		aggregator.flush();
+
+		// then
+		verify(notificationService, times(1)).mergeLikeNotification(eq(1L), eq(10L), eq("POST"), eq(1), any());
+		verify(notificationService, times(1)).mergeLikeNotification(eq(1L), eq(10L), eq("POST"), eq(2), any());
+		verify(notificationService, times(1)).sendNotification(1L, notification);
+	}
+
+	@Test
+	@DisplayName("알림 저장이 3번 실패하면 창을 버린다")
+	void dropAfterMaxRetry() {
+		// given
+		when(notificationService.mergeLikeNotification(anyLong(), anyLong(), anyString(), anyInt(), any()))
+			.thenThrow(new IllegalStateException("db down"));
+		aggregator.add(LikeEvent.create("A", 1L, 10L, "POST", true));
+
+		// when
+		for (int i = 0; i < 5; i++) {
+			aggregator.flush();
+		}
+
+		// then
+		verify(notificationService, times(3)).mergeLikeNotification(eq(1L), eq(10L), eq("POST"), eq(1), any());
+		verify(notificationService, never()).sendNotification(anyLong(), any());
+	}
+
+	@Test
+	@DisplayName("종료 시에는 아직 닫히지 않은 창도 저장")
+	void flushOnShutdown() {
+		// given
+		aggregator = new LikeNotificationAggregator(notificationService, 60_000);
+		aggregator.add(LikeEvent.create("A", 1L, 10L, "POST", true));
+
+		// when
+		aggregator.flush();
+
+		// then
+		verifyNoInteractions(notificationService);
+
+		// when
+		aggregator.shutdown();
+
+		// then
+		verify(notificationService, times(1)).mergeLikeNotification(eq(1L), eq(10L), eq("POST"), eq(1), any());
+	}
+
+	@Test
+	@DisplayName("알림 메시지는 최대 2명의 이름과 나머지 인원 수로 만든다")
+	void message() {
+		assertThat(LikeNotificationAggregator.message(List.of("A"), 1, "게시물"))
+			.isEqualTo("A님이 당신의 게시물에 좋아요를 눌렀습니다.");
+		assertThat(LikeNotificationAggregator.message(List.of("A", "B"), 2, "댓글"))
+			.isEqualTo("A님, B님이 당신의 댓글에 좋아요를 눌렀습니다.");
+		assertThat(LikeNotificationAggregator.message(List.of("A"), 5, "게시물"))
+			.isEqualTo("A님 외 4명이 당신의 게시물에 좋아요를 눌렀습니다.");
+	}
+}
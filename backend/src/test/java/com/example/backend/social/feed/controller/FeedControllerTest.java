@@ -16,6 +16,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -57,6 +59,9 @@ class FeedControllerTest {
 	@Autowired
 	private AccessTokenService accessTokenService;
 
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
 	private String accessToken;
 	private MemberEntity testMember;
 
@@ -116,6 +121,67 @@ class FeedControllerTest {
 			.andExpect(jsonPath("$.data").exists());
 	}
 
+	@Test
+	@DisplayName("피드요청 - 같은 커서로 ETag 를 전달하면 304 반환")
+	void t1_1() throws Exception {
+		String timestamp = LocalDateTime.now().format(formatter);
+
+		String etag = mockMvc.perform(get("/api-v1/feed")
+				.header("Authorization", "Bearer " + accessToken)
+				.param("maxSize", String.valueOf(REQUEST_FEED_MAX_SIZE))
+				.param("lastPostId", "0")
+				.param("timestamp", timestamp)
+				.accept(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(header().exists(HttpHeaders.ETAG))
+			.andReturn()
+			.getResponse()
+			.getHeader(HttpHeaders.ETAG);
+
+		// 캐싱된 페이지가 만료되어도 피드 버전과 커서가 같으면 304 를 반환한다
+		stringRedisTemplate.delete(stringRedisTemplate.keys("feedPage:*"));
+
+		mockMvc.perform(get("/api-v1/feed")
+				.header("Authorization", "Bearer " + accessToken)
+				.header(HttpHeaders.IF_NONE_MATCH, etag)
+				.param("maxSize", String.valueOf(REQUEST_FEED_MAX_SIZE))
+				.param("lastPostId", "0")
+				.param("timestamp", timestamp)
+				.accept(MediaType.APPLICATION_JSON))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string(HttpHeaders.ETAG, etag));
+	}
+
+	@Test
+	@DisplayName("피드 스트리밍 요청 - 피드 레코드 뒤에 커서 레코드가 마지막 줄로 반환")
+	void t1_2() throws Exception {
+		String body = mockMvc.perform(get("/api-v1/feed/stream")
+				.header("Authorization", "Bearer " + accessToken)
+				.param("maxSize", String.valueOf(REQUEST_FEED_MAX_SIZE))
+				.param("lastPostId", "0")
+				.param("timestamp", LocalDateTime.now().format(formatter))
+				.accept(MediaType.APPLICATION_NDJSON))
+			.andExpect(status().isOk())
+			.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+			.andReturn()
+			.getResponse()
+			.getContentAsString();
+
+		List<String> lines = body.lines().toList();
+		Assertions.assertFalse(lines.isEmpty());
+		Assertions.assertTrue(lines.size() - 1 <= REQUEST_FEED_MAX_SIZE);
+
+		for (String line : lines.subList(0, lines.size() - 1)) {
+			Assertions.assertEquals("feed", JsonPath.<String>read(line, "$.type"));
+			Assertions.assertNotNull(JsonPath.read(line, "$.feed.postId"));
+		}
+
+		String cursor = lines.getLast();
+		Assertions.assertEquals("cursor", JsonPath.<String>read(cursor, "$.type"));
+		Assertions.assertNotNull(JsonPath.read(cursor, "$.lastTimestamp"));
+		Assertions.assertNotNull(JsonPath.read(cursor, "$.lastPostId"));
+	}
+
 	@Test
 	@DisplayName("피드요청 - 실패: 잘못된 Request 전달")
 	void t2() throws Exception {
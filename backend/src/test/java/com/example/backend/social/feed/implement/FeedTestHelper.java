@@ -10,6 +10,7 @@ import org.springframework.stereotype.Component;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.backend.content.comment.implement.CommentCountReconciler;
 import com.example.backend.entity.CommentEntity;
 import com.example.backend.entity.CommentRepository;
 import com.example.backend.entity.HashtagEntity;
@@ -27,6 +28,7 @@ import com.example.backend.global.event.CommentEventListener;
 import com.example.backend.global.event.FollowEventListener;
 import com.example.backend.global.event.LikeEventListener;
 import com.example.backend.identity.member.service.MemberService;
+import com.example.backend.social.feed.schedular.FeedScheduler;
 import com.example.backend.social.reaction.like.service.LikeService;
 
 import jakarta.persistence.EntityManager;
@@ -58,6 +60,12 @@ public class FeedTestHelper {
 	@Autowired
 	private LikeService likeService;
 
+	@Autowired
+	private CommentCountReconciler commentCountReconciler;
+
+	@Autowired
+	private FeedScheduler feedScheduler;
+
 	@Autowired
 	EntityManager entityManager;
 	@Autowired
@@ -173,5 +181,11 @@ public class FeedTestHelper {
 		}
 		commentRepository.saveAll(comments);
 		commentRepository.flush();
+
+		// 댓글을 Repository 로 직접 저장했으므로 게시물의 댓글 수를 맞춰준다
+		commentCountReconciler.reconcile(posts.stream().map(PostEntity::getId).toList());
+
+		// 추천 후보 풀을 저장한 게시물 기준으로 갱신
+		feedScheduler.refreshRecommendCandidatePool();
 	}
 }
@@ -0,0 +1,177 @@
+package com.example.backend.social.feed.implement;
+
+import static com.example.backend.entity.QMemberEntity.*;
+import static com.example.backend.social.feed.constant.FeedConstants.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.backend.entity.MemberEntity;
+import com.example.backend.entity.PostEntity;
+import com.example.backend.entity.PostRepository;
+import com.example.backend.global.event.CommentEventListener;
+import com.example.backend.global.event.FollowEventListener;
+import com.example.backend.global.event.LikeEventListener;
+import com.example.backend.social.feed.Feed;
+import com.example.backend.social.feed.schedular.FeedScheduler;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+@SpringBootTest
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_EACH_TEST_METHOD)
+@Transactional
+class HomeTimelineStoreTest {
+
+	@Autowired
+	private HomeTimelineStore homeTimelineStore;
+
+	@Autowired
+	private FeedSelectorCache feedSelector;
+
+	@Autowired
+	private FeedTestHelper feedTestHelper;
+
+	@Autowired
+	private FeedScheduler feedScheduler;
+
+	@Autowired
+	private JPAQueryFactory queryFactory;
+
+	@Autowired
+	private PostRepository postRepository;
+
+	@Autowired
+	private StringRedisTemplate stringRedisTemplate;
+
+	private MemberEntity member;   // user2 ~ user10 을 팔로우
+	private MemberEntity author;   // user1 이 팔로우하는 작성자 (user2)
+	private MemberEntity stranger; // user1 이 팔로우하지 않는 작성자 (user15)
+
+	@MockitoBean
+	LikeEventListener likeEventListener;
+	@MockitoBean
+	FollowEventListener followEventListener;
+	@MockitoBean
+	CommentEventListener commentEventListener;
+
+	@BeforeEach
+	void setUp() {
+		stringRedisTemplate.getConnectionFactory().getConnection().flushDb();
+		feedTestHelper.setData();
+
+		member = findMember("user1");
+		author = findMember("user2");
+		stranger = findMember("user15");
+	}
+
+	@Test
+	@DisplayName("타임라인이 없으면 본인과 팔로잉 작성자의 게시물로 재구성한다")
+	void t1() {
+		List<Long> postIds = homeTimelineStore.findPostIds(member, 0L, 10);
+
+		List<Long> expected = new ArrayList<>();
+		for (String username : member.getFollowingList()) {
+			Long followingId = findMember(username).getId();
+			expected.addAll(postRepository.findRecentIdsByMemberId(followingId, PageRequest.of(0, 5)));
+		}
+		expected.addAll(postRepository.findRecentIdsByMemberId(member.getId(), PageRequest.of(0, 5)));
+		expected.sort((a, b) -> Long.compare(b, a));
+
+		Assertions.assertNotNull(postIds);
+		Assertions.assertEquals(expected.subList(0, 10), postIds);
+		Assertions.assertTrue(postIds.stream().noneMatch(
+			postRepository.findRecentIdsByMemberId(stranger.getId(), PageRequest.of(0, 5))::contains));
+	}
+
+	@Test
+	@DisplayName("새 게시물은 커밋 이후에 팔로워 타임라인에 push 된다")
+	void t2() {
+		homeTimelineStore.findPostIds(member, 0L, 10);
+		PostEntity post = savePost(author);
+
+		runAndCommit(() -> {
+			homeTimelineStore.fanOut(post);
+
+			// 커밋 전에는 push 되지 않는다
+			Assertions.assertNotEquals(post.getId(), homeTimelineStore.findPostIds(member, 0L, 1).getFirst());
+		});
+
+		Assertions.assertEquals(post.getId(), homeTimelineStore.findPostIds(member, 0L, 1).getFirst());
+	}
+
+	@Test
+	@DisplayName("celebrity 작성자의 게시물은 push 하지 않고 조회 시점에 병합한다")
+	void t3() {
+		queryFactory.update(memberEntity)
+			.set(memberEntity.followerCount, CELEBRITY_FOLLOWER_THRESHOLD)
+			.where(memberEntity.id.eq(author.getId()))
+			.execute();
+		feedScheduler.updateCelebrityUsername();
+
+		List<Long> authorPostIds = postRepository.findRecentIdsByMemberId(author.getId(), PageRequest.of(0, 5));
+		List<Long> timelinePostIds = homeTimelineStore.findPostIds(member, 0L, HOME_TIMELINE_CAPACITY);
+		Assertions.assertTrue(timelinePostIds.stream().noneMatch(authorPostIds::contains));
+
+		PostEntity post = savePost(author);
+		runAndCommit(() -> homeTimelineStore.fanOut(post));
+		Assertions.assertFalse(
+			homeTimelineStore.findPostIds(member, 0L, HOME_TIMELINE_CAPACITY).contains(post.getId()));
+
+		List<Feed> feeds = feedSelector.findByFollower(member, 0L, 10);
+		Assertions.assertEquals(post.getId(), feeds.getFirst().getPost().getId());
+	}
+
+	@Test
+	@DisplayName("팔로우가 롤백되면 타임라인에 대상의 게시물을 채워넣지 않는다")
+	void t4() {
+		homeTimelineStore.findPostIds(member, 0L, 10);
+		Long strangerPostId = postRepository.findRecentIdsByMemberId(stranger.getId(), PageRequest.of(0, 1)).getFirst();
+
+		// 커밋 전 (테스트 트랜잭션은 롤백되므로 반영되지 않는다)
+		homeTimelineStore.backfill(member, stranger);
+		Assertions.assertFalse(homeTimelineStore.findPostIds(member, 0L, 10).contains(strangerPostId));
+
+		// 커밋
+		runAndCommit(() -> homeTimelineStore.backfill(member, stranger));
+		Assertions.assertTrue(homeTimelineStore.findPostIds(member, 0L, 10).contains(strangerPostId));
+
+		runAndCommit(() -> homeTimelineStore.prune(member, stranger));
+		Assertions.assertFalse(homeTimelineStore.findPostIds(member, 0L, 10).contains(strangerPostId));
+	}
+
+	private MemberEntity findMember(String username) {
+		return queryFactory.selectFrom(memberEntity)
+			.where(memberEntity.username.eq(username))
+			.fetchOne();
+	}
+
+	private PostEntity savePost(MemberEntity writer) {
+		return postRepository.save(PostEntity.builder()
+			.content("new post")
+			.member(writer)
+			.isDeleted(false)
+			.build());
+	}
+
+	// 테스트 트랜잭션은 롤백되므로, action 이 등록한 커밋 이후 작업만 커밋된 것처럼 실행한다
+	private void runAndCommit(Runnable action) {
+		List<TransactionSynchronization> before = TransactionSynchronizationManager.getSynchronizations();
+		action.run();
+		TransactionSynchronizationManager.getSynchronizations().stream()
+			.filter(synchronization -> !before.contains(synchronization))
+			.forEach(TransactionSynchronization::afterCommit);
+	}
+}
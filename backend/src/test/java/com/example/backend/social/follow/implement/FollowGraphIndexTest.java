@@ -0,0 +1,111 @@
+package com.example.backend.social.follow.implement;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import com.example.backend.entity.MemberEntity;
+import com.example.backend.entity.MemberRepository;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+
+class FollowGraphIndexTest {
+
+	private static final Long MEMBER_ID = 1L;
+
+	MemberRepository memberRepository;
+	FollowGraphIndex followGraphIndex;
+	MemberEntity member;
+
+	@BeforeEach
+	void setUp() {
+		memberRepository = mock(MemberRepository.class);
+		followGraphIndex = new FollowGraphIndex(mock(JPAQueryFactory.class), memberRepository);
+		member = mock(MemberEntity.class);
+		when(member.getId()).thenReturn(MEMBER_ID);
+	}
+
+	@Test
+	@DisplayName("인덱스에 없는 멤버는 팔로우 테이블에서 한 번만 읽어온다")
+	void load() {
+		// given
+		when(memberRepository.findFollowingIdsByMemberId(MEMBER_ID)).thenReturn(List.of(2L, 3L));
+		// 팔로잉 수 컬럼과 맞지 않아도 다시 읽지 않는다
+		when(member.getFollowingCount()).thenReturn(5L);
+
+		// when
+		RoaringBitmap first = followGraphIndex.getFollowing(member);
+		RoaringBitmap second = followGraphIndex.getFollowing(member);
+
+		// then
+		assertThat(first.toArray()).containsExactly(2, 3);
+		assertThat(second).isSameAs(first);
+		verify(memberRepository, times(1)).findFollowingIdsByMemberId(MEMBER_ID);
+	}
+
+	@Test
+	@DisplayName("팔로우 / 언팔로우는 DB 를 다시 읽지 않고 인덱스에 반영되며, 기존 비트맵은 수정하지 않는다")
+	void update() {
+		// given
+		when(memberRepository.findFollowingIdsByMemberId(MEMBER_ID)).thenReturn(List.of(2L));
+		RoaringBitmap before = followGraphIndex.getFollowing(member);
+
+		// when
+		followGraphIndex.follow(MEMBER_ID, 3L);
+		followGraphIndex.unfollow(MEMBER_ID, 2L);
+
+		// then
+		assertThat(followGraphIndex.isFollowing(member, 3L)).isTrue();
+		assertThat(followGraphIndex.isFollowing(member, 2L)).isFalse();
+		assertThat(before.toArray()).containsExactly(2);
+		verify(memberRepository, times(1)).findFollowingIdsByMemberId(MEMBER_ID);
+	}
+
+	@Test
+	@DisplayName("인덱스에 없는 멤버의 팔로우는 반영하지 않고, 다음 조회 시 DB 에서 읽는다")
+	void updateNotLoaded() {
+		// given
+		followGraphIndex.follow(MEMBER_ID, 3L);
+		when(memberRepository.findFollowingIdsByMemberId(MEMBER_ID)).thenReturn(List.of(3L, 4L));
+
+		// when
+		RoaringBitmap following = followGraphIndex.getFollowing(member);
+
+		// then
+		assertThat(following.toArray()).containsExactly(3, 4);
+	}
+
+	@Test
+	@DisplayName("연속된 멤버 ID 는 하나의 구간으로 묶인다")
+	void toRanges() {
+		RoaringBitmap bitmap = RoaringBitmap.bitmapOf(1, 2, 3, 7, 10, 11);
+
+		List<long[]> ranges = FollowGraphIndex.toRanges(bitmap);
+
+		assertThat(ranges).hasSize(3);
+		assertThat(ranges.get(0)).containsExactly(1L, 3L);
+		assertThat(ranges.get(1)).containsExactly(7L, 7L);
+		assertThat(ranges.get(2)).containsExactly(10L, 11L);
+	}
+
+	@Test
+	@DisplayName("빈 비트맵은 빈 구간 리스트를 반환한다")
+	void toRangesEmpty() {
+		assertThat(FollowGraphIndex.toRanges(new RoaringBitmap())).isEmpty();
+	}
+
+	@Test
+	@DisplayName("멤버 ID 포함 여부를 확인한다")
+	void contains() {
+		RoaringBitmap bitmap = RoaringBitmap.bitmapOf(5, 100_000);
+
+		assertThat(FollowGraphIndex.contains(bitmap, 5L)).isTrue();
+		assertThat(FollowGraphIndex.contains(bitmap, 100_000L)).isTrue();
+		assertThat(FollowGraphIndex.contains(bitmap, 6L)).isFalse();
+	}
+}
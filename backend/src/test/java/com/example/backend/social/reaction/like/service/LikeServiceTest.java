@@ -2,6 +2,9 @@ package com.example.backend.social.reaction.like.service;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import java.util.BitSet;
+import java.util.List;
+
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,8 +16,10 @@ import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.backend.content.post.service.PostService;
 import com.example.backend.entity.CommentEntity;
 import com.example.backend.entity.CommentRepository;
 import com.example.backend.entity.LikeRepository;
@@ -28,6 +33,7 @@ import com.example.backend.social.exception.SocialException;
 import com.example.backend.social.reaction.like.dto.LikeToggleResponse;
 import com.example.backend.social.reaction.like.scheduler.LikeSyncManager;
 import com.example.backend.social.reaction.like.util.RedisKeyUtil;
+import com.example.backend.social.reaction.like.util.component.LikedByLookup;
 import com.example.backend.social.reaction.like.util.component.RedisLikeService;
 
 import jakarta.persistence.EntityManager;
@@ -50,6 +56,9 @@ public class LikeServiceTest {
 	@Autowired
 	private RedisLikeService redisLikeService;
 
+	@Autowired
+	private LikedByLookup likedByLookup;
+
 	@Autowired
 	private LikeSyncManager likeSyncManager;
 
@@ -74,6 +83,9 @@ public class LikeServiceTest {
 	@Autowired
 	private MemberService memberService;
 
+	@Autowired
+	private PostService postService;
+
 	@MockitoBean
 	LikeEventListener likeEventListener;
 
@@ -253,4 +265,52 @@ public class LikeServiceTest {
 		assertTrue(replyResponse.isLiked());
 		assertEquals(1L, replyResponse.likeCount());
 	}
+
+	@Test
+	@DisplayName("7. 좋아요 여부 일괄 조회 - 캐싱된 이후의 토글이 반영되는지 테스트")
+	public void t007() {
+		// Given - 좋아요 여부를 먼저 조회하여 멤버의 좋아요 Set 을 캐싱
+		long memberId = testMember.getId();
+		Long postId = testPost.getId();
+		List<Long> ids = List.of(postId, postId + 1000);
+		assertTrue(likedByLookup.likedBy(memberId, "POST", ids).isEmpty());
+
+		// When
+		likeService.toggleLike(memberId, "post", postId);
+
+		// Then - 토글한 게시물만 좋아요 상태
+		BitSet liked = likedByLookup.likedBy(memberId, "POST", ids);
+		assertTrue(liked.get(0));
+		assertFalse(liked.get(1));
+
+		// When - 좋아요 취소
+		likeService.toggleLike(memberId, "post", postId);
+
+		// Then
+		assertTrue(likedByLookup.likedBy(memberId, "POST", ids).isEmpty());
+	}
+
+	@Test
+	@DisplayName("8. 삭제된 게시물에 좋아요 요청 테스트 - 대상 캐시가 삭제 커밋 시점에 비워지는지 테스트")
+	public void t008() {
+		// Given - 좋아요로 게시물의 작성자 정보를 캐싱한 뒤 게시물 삭제 (캐시는 커밋 이후에 비워지므로 커밋)
+		long memberId = testMember.getId();
+		Long postId = testPost.getId();
+		likeService.toggleLike(memberId, "post", postId);
+		postService.deletePost(postId, contentMember.getId());
+		TestTransaction.flagForCommit();
+		TestTransaction.end();
+
+		// When & Then
+		assertThrows(SocialException.class, () -> {
+			likeService.toggleLike(memberId, "post", postId);
+		});
+
+		// 커밋한 데이터 정리
+		TestTransaction.start();
+		postRepository.deleteAll();
+		memberRepository.deleteAll();
+		TestTransaction.flagForCommit();
+		TestTransaction.end();
+	}
 }
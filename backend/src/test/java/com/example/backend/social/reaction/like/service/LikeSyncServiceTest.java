@@ -271,4 +271,32 @@ public class LikeSyncServiceTest {
         assertEquals(2L, likeCountByResourceType.getOrDefault("COMMENT", 0L));
         assertEquals(2L, likeCountByResourceType.getOrDefault("REPLY", 0L));
     }
+
+    @Test
+    @DisplayName("4. 같은 좋아요를 여러 번 토글하면 마지막 상태 하나만 반영되는지 테스트")
+    public void t004() {
+        // Given - 신규 좋아요 -> 취소 -> 다시 좋아요 (신규 좋아요가 두 번 기록된 경우 포함)
+        MemberEntity likeMember = memberService.join("likeMember", "password", "likeMember@test.com");
+        Long postId = testPost.getId();
+        String resourceType = "POST";
+
+        LocalDateTime createDate = LocalDateTime.now();
+        likeSyncService.addToPendingSync(
+            new LikeInfo(likeMember.getId(), postId, resourceType, createDate, createDate, true));
+        likeSyncService.addToPendingSync(
+            new LikeInfo(likeMember.getId(), postId, resourceType, createDate, createDate, true));
+        likeSyncService.addToPendingSync(
+            new LikeInfo(likeMember.getId(), postId, resourceType, null, LocalDateTime.now(), false));
+        likeSyncService.addToPendingSync(
+            new LikeInfo(likeMember.getId(), postId, resourceType, null, LocalDateTime.now(), true));
+
+        // When
+        likeSyncService.syncToDatabase();
+
+        // Then - 한 건만 삽입되고 마지막 상태(좋아요)가 반영됨
+        List<LikeEntity> likes = likeRepository.findAll();
+        assertEquals(1, likes.size());
+        assertEquals(likeMember.getId(), likes.get(0).getMember().getId());
+        assertTrue(likes.get(0).isLiked());
+    }
 }
@@ -0,0 +1,93 @@
+package com.example.backend.social.reaction.like.util.component;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+class LikeCountStripesTest {
+
+	private static final String COUNT_KEY = "likeCount:{POST:1}";
+	private static final int HOT_THRESHOLD = 50;
+
+	StringRedisTemplate stringRedisTemplate;
+	LikeCountStripes likeCountStripes;
+
+	@BeforeEach
+	void setUp() {
+		stringRedisTemplate = mock(StringRedisTemplate.class);
+		likeCountStripes = new LikeCountStripes(stringRedisTemplate);
+	}
+
+	@Test
+	@DisplayName("토글이 몰리는 리소스는 증감을 모았다가 한 번의 파이프라인으로 분할 키에 반영")
+	void flushHotResource() {
+		// given
+		assertThat(likeCountStripes.recordToggle(COUNT_KEY)).isFalse();
+		makeHot();
+		likeCountStripes.accumulate(COUNT_KEY, 1);
+		likeCountStripes.accumulate(COUNT_KEY, 1);
+		likeCountStripes.accumulate(COUNT_KEY, -1);
+		assertThat(likeCountStripes.pendingDelta(COUNT_KEY)).isEqualTo(1);
+
+		// when
+		likeCountStripes.flush();
+
+		// then
+		verify(stringRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+		assertThat(likeCountStripes.pendingDelta(COUNT_KEY)).isZero();
+	}
+
+	@Test
+	@DisplayName("분할 키 반영에 실패하면 모아둔 증감을 유지하여 다음 반영에서 다시 시도")
+	void keepDeltaOnFailure() {
+		// given
+		when(stringRedisTemplate.executePipelined(any(RedisCallback.class)))
+			.thenThrow(new RuntimeException("redis down"));
+		makeHot();
+		likeCountStripes.accumulate(COUNT_KEY, 3);
+
+		// when
+		likeCountStripes.flush();
+
+		// then
+		assertThat(likeCountStripes.pendingDelta(COUNT_KEY)).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("토글이 잦아든 리소스의 분할 키는 스크립트 한 번으로 좋아요 수 키에 합침")
+	void collapseCooled() {
+		// given
+		makeHot();
+
+		// when - 아직 토글이 몰리는 중
+		likeCountStripes.collapseCooled(System.currentTimeMillis());
+
+		// then
+		verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+
+		// when - 잦아든 뒤
+		likeCountStripes.collapseCooled(System.currentTimeMillis() + Duration.ofMinutes(1).toMillis());
+
+		// then
+		verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class),
+			eq(LikeCountStripes.keysOf(COUNT_KEY)), eq(String.valueOf(Duration.ofDays(7).toSeconds())));
+		assertThat(likeCountStripes.recordToggle(COUNT_KEY)).isFalse();
+	}
+
+	private void makeHot() {
+		boolean hot = false;
+		for (int i = 0; i < HOT_THRESHOLD; i++) {
+			hot = likeCountStripes.recordToggle(COUNT_KEY);
+		}
+		assertThat(hot).isTrue();
+	}
+}